@@ -0,0 +1,39 @@
+package io.github.zlemiesz.springemployeeservice.benchmark;
+
+import io.github.zlemiesz.springemployeeservice.model.Employee;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+
+/**
+ * Plain Hibernate bootstrap on an in-memory H2 database, so benchmarks run offline
+ * without the Spring context or MySQL.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public final class BenchmarkDatabase {
+
+    private BenchmarkDatabase() {
+    }
+
+    public static SessionFactory sessionFactory(String name) {
+        return new Configuration()
+                .addAnnotatedClass(Employee.class)
+                .setProperty("jakarta.persistence.jdbc.url", "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1")
+                .setProperty("jakarta.persistence.jdbc.user", "sa")
+                .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                .setProperty("hibernate.show_sql", "false")
+                .buildSessionFactory();
+    }
+
+    public static void insertEmployees(SessionFactory sessionFactory, int count) {
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < count; i++) {
+                session.persist(new Employee("First" + i, "Last" + i, "employee" + i + "@example.com"));
+                if (i % 500 == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+        });
+    }
+}
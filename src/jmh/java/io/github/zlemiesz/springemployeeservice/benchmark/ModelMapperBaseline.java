@@ -1,26 +1,24 @@
-package io.github.zlemiesz.springemployeeservice.config;
+package io.github.zlemiesz.springemployeeservice.benchmark;
 
 import org.modelmapper.ModelMapper;
 import org.modelmapper.convention.MatchingStrategies;
-import org.modelmapper.spi.MatchingStrategy;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
 
 /**
+ * The reflective mapper the application used before {@code EmployeeMapper} was hand-written,
+ * with the same configuration, kept as a benchmark baseline.
+ *
  * @author Zbigniew Lemiesz
  */
+public final class ModelMapperBaseline {
 
-@Configuration
-public class ModelMapperConfig {
+    private ModelMapperBaseline() {
+    }
 
-    @Bean
-    public ModelMapper modelMapper(){
+    public static ModelMapper create() {
         ModelMapper mapper = new ModelMapper();
-
         mapper.getConfiguration()
                 .setMatchingStrategy(MatchingStrategies.STRICT)
                 .setSkipNullEnabled(true);
-
         return mapper;
     }
 }
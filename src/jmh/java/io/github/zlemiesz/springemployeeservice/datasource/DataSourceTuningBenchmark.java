@@ -0,0 +1,111 @@
+package io.github.zlemiesz.springemployeeservice.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hikari with driver defaults vs {@link DataSourceTuning}, on the two JDBC patterns the application
+ * produces: short borrow + prepared lookup by id, and a JDBC batch insert.
+ * <p>
+ * Runs against in-memory H2 by default, where the Connector/J settings do not apply and both variants
+ * should be equal (a sanity check of the harness). Point it at a local MySQL to see the difference:
+ * {@code -Djmh.args="DataSourceTuning -jvmArgsAppend -Dbenchmark.jdbc.url=jdbc:mysql://localhost:3306/bench"},
+ * credentials in {@code benchmark.jdbc.user} / {@code benchmark.jdbc.password}.
+ *
+ * @author Zbigniew Lemiesz
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DataSourceTuningBenchmark {
+
+    private static final int ROWS = 1_000;
+    private static final int BATCH_SIZE = 50;
+
+    @Param({"defaults", "tuned"})
+    public String pool;
+
+    private HikariDataSource dataSource;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        dataSource = new HikariDataSource();
+        dataSource.setPoolName("benchmark-" + pool);
+        dataSource.setJdbcUrl(System.getProperty("benchmark.jdbc.url", "jdbc:h2:mem:datasource-tuning;DB_CLOSE_DELAY=-1"));
+        dataSource.setUsername(System.getProperty("benchmark.jdbc.user", "sa"));
+        dataSource.setPassword(System.getProperty("benchmark.jdbc.password", ""));
+        dataSource.setMaximumPoolSize(4);
+        if ("tuned".equals(pool)) {
+            DataSourceTuning.applyDriverDefaults(dataSource);
+        }
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists bench_employees");
+            statement.execute("""
+                    create table bench_employees (
+                        id bigint auto_increment primary key,
+                        first_name varchar(100) not null,
+                        last_name varchar(100) not null,
+                        email varchar(255) not null
+                    )
+                    """);
+        }
+        insert(ROWS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public String findById() throws SQLException {
+        long id = ThreadLocalRandom.current().nextLong(1, ROWS + 1);
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     "select id, first_name, last_name, email from bench_employees where id = ?")) {
+            statement.setLong(1, id);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? rs.getString(4) : null;
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int batchInsert() throws SQLException {
+        return insert(BATCH_SIZE);
+    }
+
+    private int insert(int count) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     "insert into bench_employees (first_name, last_name, email) values (?, ?, ?)")) {
+            connection.setAutoCommit(false);
+            for (int i = 0; i < count; i++) {
+                statement.setString(1, "First" + i);
+                statement.setString(2, "Last" + i);
+                statement.setString(3, "employee" + i + "@example.com");
+                statement.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+            connection.commit();
+            return count;
+        }
+    }
+}
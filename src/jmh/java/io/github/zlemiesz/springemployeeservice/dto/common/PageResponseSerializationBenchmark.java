@@ -0,0 +1,55 @@
+package io.github.zlemiesz.springemployeeservice.dto.common;
+
+import io.github.zlemiesz.springemployeeservice.dto.EmployeeResponseDto;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of a listing page, through the shared mapper and through a writer
+ * prepared once for the concrete {@code PageResponse<EmployeeResponseDto>} type.
+ *
+ * @author Zbigniew Lemiesz
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageResponseSerializationBenchmark {
+
+    @Param({"20", "200"})
+    public int size;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private ObjectWriter pageWriter;
+    private PageResponse<EmployeeResponseDto> page;
+
+    @Setup
+    public void setUp() {
+        List<EmployeeResponseDto> content = new ArrayList<>(size);
+        for (long i = 1; i <= size; i++) {
+            content.add(new EmployeeResponseDto(i, "First" + i, "Last" + i, "employee" + i + "@example.com", 0L));
+        }
+        page = new PageResponse<>(content, 0, size, 10_000L, 10_000 / size, true, false, true);
+        pageWriter = jsonMapper.writerFor(new TypeReference<PageResponse<EmployeeResponseDto>>() {
+        });
+    }
+
+    @Benchmark
+    public byte[] jsonMapper() {
+        return jsonMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] typedWriter() {
+        return pageWriter.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.zlemiesz.springemployeeservice.handler;
+
+import io.github.zlemiesz.springemployeeservice.dto.EmployeePutDto;
+import io.github.zlemiesz.springemployeeservice.exception.EmployeeNotFoundException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building {@link ProblemDetail} responses for the most frequent error paths
+ * (single-error 404 and a multi-field 400), without the MVC dispatch around them.
+ *
+ * @author Zbigniew Lemiesz
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GlobalExceptionHandlerBenchmark {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    private MockHttpServletRequest request;
+    private ServletWebRequest webRequest;
+    private EmployeeNotFoundException notFound;
+    private MethodArgumentNotValidException notValid;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        request = new MockHttpServletRequest("PUT", "/employee/42");
+        webRequest = new ServletWebRequest(request);
+        notFound = new EmployeeNotFoundException(42L);
+
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new EmployeePutDto(), "employeePutDto");
+        bindingResult.rejectValue("firstName", "NotBlank", "must not be blank");
+        bindingResult.rejectValue("email", "Email", "must be a well-formed email address");
+        bindingResult.rejectValue("version", "NotNull", "must not be null");
+
+        MethodParameter parameter = new MethodParameter(
+                GlobalExceptionHandlerBenchmark.class.getDeclaredMethod("target", EmployeePutDto.class), 0);
+        notValid = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public ResponseEntity<ProblemDetail> employeeNotFound() {
+        return handler.handleEmployeeNotFound(notFound, request);
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> validationFailed() {
+        return handler.handleMethodArgumentNotValid(notValid, new HttpHeaders(), HttpStatus.BAD_REQUEST, webRequest);
+    }
+
+    @SuppressWarnings("unused")
+    private void target(EmployeePutDto dto) {
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.zlemiesz.springemployeeservice.handler;
+
+import io.github.zlemiesz.springemployeeservice.dto.EmployeePutDto;
+import io.github.zlemiesz.springemployeeservice.metrics.ProblemDetailMetrics;
+import io.github.zlemiesz.springemployeeservice.security.RestAuthenticationEntryPoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.InsufficientAuthenticationException;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.context.request.ServletWebRequest;
+import tools.jackson.databind.exc.InvalidFormatException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 4xx-heavy load: clients sending bad payloads or no credentials, from building the
+ * {@code ProblemDetail} to the serialized body, on several threads at once.
+ * Complements {@link GlobalExceptionHandlerBenchmark} (single-threaded build cost only).
+ *
+ * @author Zbigniew Lemiesz
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProblemResponseThroughputBenchmark {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    private RestAuthenticationEntryPoint entryPoint;
+    private MockHttpServletRequest request;
+    private ServletWebRequest webRequest;
+    private MethodArgumentNotValidException notValid;
+    private HttpMessageNotReadableException wrongType;
+    private InsufficientAuthenticationException unauthenticated;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        entryPoint = new RestAuthenticationEntryPoint(jsonMapper,
+                new ProblemDetailMetrics(beanFactory.getBeanProvider(MeterRegistry.class), false));
+
+        request = new MockHttpServletRequest("PUT", "/employee/42");
+        webRequest = new ServletWebRequest(request);
+        unauthenticated = new InsufficientAuthenticationException("Full authentication is required");
+
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new EmployeePutDto(), "employeePutDto");
+        bindingResult.rejectValue("firstName", "NotBlank", "must not be blank");
+        bindingResult.rejectValue("email", "Email", "must be a well-formed email address");
+        bindingResult.rejectValue("version", "NotNull", "must not be null");
+        MethodParameter parameter = new MethodParameter(
+                ProblemResponseThroughputBenchmark.class.getDeclaredMethod("target", EmployeePutDto.class), 0);
+        notValid = new MethodArgumentNotValidException(parameter, bindingResult);
+
+        try {
+            jsonMapper.readValue("{\"version\":\"abc\"}", EmployeePutDto.class);
+            throw new IllegalStateException("expected InvalidFormatException");
+        } catch (InvalidFormatException e) {
+            wrongType = new HttpMessageNotReadableException("JSON parse error", e, new MockHttpInputMessage(new byte[0]));
+        }
+    }
+
+    @Benchmark
+    public byte[] validationFailed() {
+        return jsonMapper.writeValueAsBytes(
+                handler.handleMethodArgumentNotValid(notValid, new HttpHeaders(), HttpStatus.BAD_REQUEST, webRequest)
+                        .getBody());
+    }
+
+    @Benchmark
+    public byte[] wrongFieldType() {
+        return jsonMapper.writeValueAsBytes(
+                handler.handleHttpMessageNotReadable(wrongType, new HttpHeaders(), HttpStatus.BAD_REQUEST, webRequest)
+                        .getBody());
+    }
+
+    @Benchmark
+    public int unauthorized() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        entryPoint.commence(request, response, unauthenticated);
+        return response.getContentLength();
+    }
+
+    @SuppressWarnings("unused")
+    private void target(EmployeePutDto dto) {
+    }
+}
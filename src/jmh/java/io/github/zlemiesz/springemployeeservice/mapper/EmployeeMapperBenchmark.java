@@ -0,0 +1,80 @@
+package io.github.zlemiesz.springemployeeservice.mapper;
+
+import io.github.zlemiesz.springemployeeservice.benchmark.ModelMapperBaseline;
+import io.github.zlemiesz.springemployeeservice.dto.EmployeeCreateDto;
+import io.github.zlemiesz.springemployeeservice.dto.EmployeePatchDto;
+import io.github.zlemiesz.springemployeeservice.dto.EmployeeResponseDto;
+import io.github.zlemiesz.springemployeeservice.model.Employee;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hand-written {@link EmployeeMapper} against the reflective ModelMapper baseline.
+ *
+ * @author Zbigniew Lemiesz
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeMapperBenchmark {
+
+    private final EmployeeMapper employeeMapper = new EmployeeMapper();
+    private final ModelMapper modelMapper = ModelMapperBaseline.create();
+
+    private Employee employee;
+    private EmployeeCreateDto createDto;
+    private EmployeePatchDto patchDto;
+
+    @Setup
+    public void setUp() {
+        employee = new Employee(42L, 3L, "jan.kowalski@example.com", "Kowalski", "Jan");
+
+        createDto = new EmployeeCreateDto();
+        createDto.setFirstName("Jan");
+        createDto.setLastName("Kowalski");
+        createDto.setEmail("jan.kowalski@example.com");
+
+        patchDto = new EmployeePatchDto();
+        patchDto.setLastName("Nowak");
+        patchDto.setVersion(3L);
+    }
+
+    @Benchmark
+    public EmployeeResponseDto toResponse_employeeMapper() {
+        return employeeMapper.toResponse(employee);
+    }
+
+    @Benchmark
+    public EmployeeResponseDto toResponse_modelMapper() {
+        return modelMapper.map(employee, EmployeeResponseDto.class);
+    }
+
+    @Benchmark
+    public Employee toEntity_employeeMapper() {
+        return employeeMapper.toEntity(createDto);
+    }
+
+    @Benchmark
+    public Employee toEntity_modelMapper() {
+        return modelMapper.map(createDto, Employee.class);
+    }
+
+    @Benchmark
+    public Employee patch_employeeMapper() {
+        Employee target = new Employee(42L, 3L, "jan.kowalski@example.com", "Kowalski", "Jan");
+        employeeMapper.patchEntity(patchDto, target);
+        return target;
+    }
+
+    @Benchmark
+    public Employee patch_modelMapper() {
+        Employee target = new Employee(42L, 3L, "jan.kowalski@example.com", "Kowalski", "Jan");
+        modelMapper.map(patchDto, target);
+        return target;
+    }
+}
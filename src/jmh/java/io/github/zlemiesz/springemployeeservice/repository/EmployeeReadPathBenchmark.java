@@ -0,0 +1,91 @@
+package io.github.zlemiesz.springemployeeservice.repository;
+
+import io.github.zlemiesz.springemployeeservice.benchmark.BenchmarkDatabase;
+import io.github.zlemiesz.springemployeeservice.benchmark.ModelMapperBaseline;
+import io.github.zlemiesz.springemployeeservice.dto.EmployeeResponseDto;
+import io.github.zlemiesz.springemployeeservice.model.Employee;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost per row of the employee listing read paths. Run with {@code -prof gc}:
+ * {@code gc.alloc.rate.norm} is bytes allocated per row.
+ * <ul>
+ *     <li>{@code managedEntityAndModelMapper} - original path: managed entities + reflective mapping</li>
+ *     <li>{@code readOnlyEntityAndModelMapper} - same, but without dirty-checking snapshots</li>
+ *     <li>{@code constructorProjection} - {@link EmployeeRepositoryCustomImpl} path: {@code select new EmployeeResponseDto(...)}</li>
+ * </ul>
+ *
+ * @author Zbigniew Lemiesz
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeReadPathBenchmark {
+
+    private static final int ROWS = 200;
+
+    private SessionFactory sessionFactory;
+    private ModelMapper modelMapper;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = BenchmarkDatabase.sessionFactory("read-path");
+        BenchmarkDatabase.insertEmployees(sessionFactory, ROWS);
+        modelMapper = ModelMapperBaseline.create();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<EmployeeResponseDto> managedEntityAndModelMapper() {
+        try (Session session = sessionFactory.openSession()) {
+            return session.createSelectionQuery("from Employee e order by e.id", Employee.class)
+                    .setMaxResults(ROWS)
+                    .getResultList()
+                    .stream()
+                    .map(e -> modelMapper.map(e, EmployeeResponseDto.class))
+                    .toList();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<EmployeeResponseDto> readOnlyEntityAndModelMapper() {
+        try (Session session = sessionFactory.openSession()) {
+            session.setDefaultReadOnly(true);
+            return session.createSelectionQuery("from Employee e order by e.id", Employee.class)
+                    .setMaxResults(ROWS)
+                    .getResultList()
+                    .stream()
+                    .map(e -> modelMapper.map(e, EmployeeResponseDto.class))
+                    .toList();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<EmployeeResponseDto> constructorProjection() {
+        try (Session session = sessionFactory.openSession()) {
+            return session.createSelectionQuery("""
+                            select new io.github.zlemiesz.springemployeeservice.dto.EmployeeResponseDto(
+                                e.id, e.firstName, e.lastName, e.email, e.version)
+                            from Employee e order by e.id
+                            """, EmployeeResponseDto.class)
+                    .setMaxResults(ROWS)
+                    .getResultList();
+        }
+    }
+}
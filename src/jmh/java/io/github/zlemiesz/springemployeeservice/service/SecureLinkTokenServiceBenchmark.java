@@ -0,0 +1,39 @@
+package io.github.zlemiesz.springemployeeservice.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Password setup link tokens: {@code SecureRandom}-backed generation and SHA-256 hashing.
+ * Run with several threads ({@code -t 4}) to see contention on the shared {@code SecureRandom}.
+ *
+ * @author Zbigniew Lemiesz
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SecureLinkTokenServiceBenchmark {
+
+    private final SecureLinkTokenService service = new SecureLinkTokenServiceImp();
+
+    private String rawToken;
+
+    @Setup
+    public void setUp() {
+        rawToken = service.generateRawToken();
+    }
+
+    @Benchmark
+    public String generateRawToken() {
+        return service.generateRawToken();
+    }
+
+    @Benchmark
+    public String hash() {
+        return service.hash(rawToken);
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.zlemiesz.springemployeeservice.specification;
+
+import io.github.zlemiesz.springemployeeservice.benchmark.BenchmarkDatabase;
+import io.github.zlemiesz.springemployeeservice.model.Employee;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning request filters into a criteria predicate, without executing the query.
+ *
+ * @author Zbigniew Lemiesz
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeSpecificationsBenchmark {
+
+    @Param({"PREFIX", "CONTAINS"})
+    public MatchMode match;
+
+    private SessionFactory sessionFactory;
+    private CriteriaBuilder cb;
+    private CriteriaQuery<Employee> query;
+    private Root<Employee> root;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = BenchmarkDatabase.sessionFactory("specifications");
+        cb = sessionFactory.getCriteriaBuilder();
+        query = cb.createQuery(Employee.class);
+        root = query.from(Employee.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Predicate noFilters() {
+        return EmployeeSpecifications.filter(null, null, null, match).toPredicate(root, query, cb);
+    }
+
+    @Benchmark
+    public Predicate lastNameOnly() {
+        return EmployeeSpecifications.filter(null, "Kowal", null, match).toPredicate(root, query, cb);
+    }
+
+    @Benchmark
+    public Predicate allFilters() {
+        Specification<Employee> spec = EmployeeSpecifications.filter("Jan", "Kowal_ski", "jan%@example.com", match);
+        return spec.toPredicate(root, query, cb);
+    }
+}
@@ -1,9 +1,12 @@
 package io.github.zlemiesz.springemployeeservice;
 
+import io.github.zlemiesz.springemployeeservice.config.NativeImageHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(NativeImageHints.class)
 public class EmployeeServiceApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,125 @@
+package io.github.zlemiesz.springemployeeservice.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.github.zlemiesz.springemployeeservice.config.CacheConfig;
+import io.github.zlemiesz.springemployeeservice.dto.EmployeeResponseDto;
+import io.github.zlemiesz.springemployeeservice.event.EmployeeChangedEvent;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Read-through cache of employees by id and of employee ids by normalized email.
+ * <p>
+ * Entries are version-aware: a put never replaces a newer {@code version} of the same employee,
+ * so a slow reader cannot overwrite what a concurrent write has already cached. A delete leaves a
+ * tombstone instead of just evicting: ids are never reused, so no later put for that id (a read that
+ * started before the delete, or one served by a lagging replica) can bring the employee back.
+ * Write paths refresh the entries after commit through {@link EmployeeChangedEvent};
+ * changes made outside this instance become visible after {@code employee.cache.ttl}.
+ * <p>
+ * Without a {@link CacheManager} ({@code employee.cache.enabled=false}) every lookup is a miss.
+ *
+ * @author Zbigniew Lemiesz
+ */
+@Component
+public class EmployeeCache {
+
+    private enum Tombstone { DELETED }
+
+    private final Cache<Object, Object> employees;
+    private final Cache<Object, Object> idsByEmail;
+
+    public EmployeeCache(ObjectProvider<CacheManager> cacheManager) {
+        CacheManager manager = cacheManager.getIfAvailable();
+        this.employees = caffeine(manager, CacheConfig.EMPLOYEES);
+        this.idsByEmail = caffeine(manager, CacheConfig.EMPLOYEE_IDS_BY_EMAIL);
+    }
+
+    public Optional<EmployeeResponseDto> get(Long id) {
+        if (employees == null || id == null) {
+            return Optional.empty();
+        }
+        return employees.getIfPresent(id) instanceof EmployeeResponseDto cached
+                ? Optional.of(copy(cached))
+                : Optional.empty();
+    }
+
+    public void put(EmployeeResponseDto employee) {
+        if (employees == null || employee.getId() == null) {
+            return;
+        }
+        employees.asMap().merge(employee.getId(), copy(employee), (cached, candidate) ->
+                cached instanceof EmployeeResponseDto current && isNewer((EmployeeResponseDto) candidate, current)
+                        ? candidate
+                        : cached);
+    }
+
+    public Optional<Long> idByEmail(String email) {
+        if (idsByEmail == null || email == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable((Long) idsByEmail.getIfPresent(normalize(email)));
+    }
+
+    public void putEmail(String email, Long id) {
+        if (idsByEmail != null && email != null && id != null) {
+            idsByEmail.put(normalize(email), id);
+        }
+    }
+
+    private void markDeleted(Long id, String email) {
+        if (employees != null) {
+            employees.put(id, Tombstone.DELETED);
+        }
+        evictEmail(email, id);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (event.isDeleted()) {
+            markDeleted(event.id(), event.previousEmail());
+            return;
+        }
+
+        EmployeeResponseDto current = event.current();
+        put(current);
+        if (event.previousEmail() != null && !event.previousEmail().equalsIgnoreCase(current.getEmail())) {
+            evictEmail(event.previousEmail(), current.getId());
+        }
+        putEmail(current.getEmail(), current.getId());
+    }
+
+    private void evictEmail(String email, Long id) {
+        if (idsByEmail != null && email != null) {
+            // only if the address still points to this employee
+            idsByEmail.asMap().remove(normalize(email), id);
+        }
+    }
+
+    private static boolean isNewer(EmployeeResponseDto candidate, EmployeeResponseDto cached) {
+        return cached.getVersion() == null
+                || (candidate.getVersion() != null && candidate.getVersion() >= cached.getVersion());
+    }
+
+    private static EmployeeResponseDto copy(EmployeeResponseDto source) {
+        return new EmployeeResponseDto(source.getId(), source.getFirstName(), source.getLastName(),
+                source.getEmail(), source.getVersion());
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Cache<Object, Object> caffeine(CacheManager manager, String name) {
+        if (manager != null && manager.getCache(name) instanceof CaffeineCache cache) {
+            return cache.getNativeCache();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.zlemiesz.springemployeeservice.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Local, bounded Caffeine caches. Statistics are recorded so that Actuator publishes
+ * {@code cache.gets{result=hit|miss}}, {@code cache.puts} and {@code cache.evictions} per cache.
+ * Disabled with {@code employee.cache.enabled=false}.
+ *
+ * @author Zbigniew Lemiesz
+ */
+@Configuration
+@ConditionalOnProperty(name = "employee.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheConfig {
+
+    public static final String EMPLOYEES = "employees";
+    public static final String EMPLOYEE_IDS_BY_EMAIL = "employeeIdsByEmail";
+    public static final String PRINCIPALS = "principals";
+
+    @Bean
+    CacheManager cacheManager(@Value("${employee.cache.ttl:10m}") Duration ttl,
+                              @Value("${employee.cache.max-size:10000}") long maxSize,
+                              @Value("${security.principal-cache.ttl:5m}") Duration principalTtl,
+                              @Value("${security.principal-cache.max-size:10000}") long principalMaxSize) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // only the caches registered below, no caches created on demand
+        cacheManager.setCacheNames(List.of());
+        cacheManager.setAllowNullValues(false);
+
+        cacheManager.registerCustomCache(EMPLOYEES, Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(EMPLOYEE_IDS_BY_EMAIL, Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(PRINCIPALS, Caffeine.newBuilder()
+                .maximumSize(principalMaxSize)
+                .expireAfterWrite(principalTtl)
+                .recordStats()
+                .build());
+        return cacheManager;
+    }
+}
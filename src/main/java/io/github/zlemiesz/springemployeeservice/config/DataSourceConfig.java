@@ -0,0 +1,129 @@
+package io.github.zlemiesz.springemployeeservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.github.zlemiesz.springemployeeservice.datasource.DataSourceTuning;
+import io.github.zlemiesz.springemployeeservice.datasource.ReadYourWritesFilter;
+import io.github.zlemiesz.springemployeeservice.datasource.ReplicaDataSource;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The application's Hikari pool: {@code spring.datasource.*} for the connection,
+ * {@code spring.datasource.hikari.*} for pool sizing, timeouts and leak detection (bound after creation,
+ * so they override anything set here), plus the Connector/J defaults from {@link DataSourceTuning}.
+ * <p>
+ * Pool metrics ({@code hikaricp.connections.*}) are wired here rather than by the actuator binder:
+ * Flyway borrows a connection during startup, after which Hikari no longer accepts a metrics tracker.
+ *
+ * @author Zbigniew Lemiesz
+ */
+@Configuration
+public class DataSourceConfig {
+
+    public static final String POOL_NAME = "employee-db";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource dataSource(@Value("${spring.datasource.url}") String url,
+                                @Value("${spring.datasource.username:}") String username,
+                                @Value("${spring.datasource.password:}") String password,
+                                @Value("${spring.datasource.driver-class-name:}") String driverClassName) {
+        HikariDataSource dataSource = pool(POOL_NAME, url, username, password);
+        if (!driverClassName.isEmpty()) {
+            dataSource.setDriverClassName(driverClassName);
+        }
+        return dataSource;
+    }
+
+    private static HikariDataSource pool(String name, String url, String username, String password) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        DataSourceTuning.applyDriverDefaults(dataSource);
+
+        // global registry: Boot adds the auto-configured registry to it once that exists
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(Metrics.globalRegistry));
+        return dataSource;
+    }
+
+    /**
+     * Read/write split, {@code employee.datasource.replicas.enabled=true}.
+     * <p>
+     * The {@code @Primary} DataSource becomes a {@link LazyConnectionDataSourceProxy} over the primary pool:
+     * it fetches the physical connection only at the first statement, by which time the transaction manager
+     * has marked it read-only or not. {@code @Transactional(readOnly = true)} work (including the Spring Data
+     * repository reads) then goes to {@link ReplicaDataSource}, everything else to the primary.
+     * Both reach the primary through {@code primaryConnections}, so with virtual threads the reads that
+     * fall back to it (replicas down, reads pinned after a write) queue in the same connection limiter.
+     */
+    @Configuration
+    @ConditionalOnProperty(name = "employee.datasource.replicas.enabled", havingValue = "true")
+    static class ReplicaRouting {
+
+        // the pool itself is closed as the dataSource bean
+        @Bean(destroyMethod = "")
+        DataSource primaryConnections(
+                @Qualifier("dataSource") HikariDataSource primary,
+                @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                @Value("${employee.datasource.limiter.max-waiting:1000}") int maxWaiting) {
+            return virtualThreads ? VirtualThreadConfig.connectionLimiter(primary, maxWaiting) : primary;
+        }
+
+        @Bean(destroyMethod = "close")
+        ReplicaDataSource replicaDataSource(
+                @Qualifier("primaryConnections") DataSource primary,
+                @Value("${employee.datasource.replicas.urls}") String[] urls,
+                @Value("${employee.datasource.replicas.username:${spring.datasource.username:}}") String username,
+                @Value("${employee.datasource.replicas.password:${spring.datasource.password:}}") String password,
+                @Value("${employee.datasource.replicas.maximum-pool-size:10}") int maximumPoolSize,
+                @Value("${employee.datasource.replicas.connection-timeout:1s}") Duration connectionTimeout,
+                @Value("${employee.datasource.replicas.health-check-interval:5s}") Duration healthCheckInterval) {
+
+            List<HikariDataSource> pools = new ArrayList<>();
+            for (int i = 0; i < urls.length; i++) {
+                HikariDataSource replica = pool(POOL_NAME + "-replica-" + (i + 1), urls[i].trim(), username, password);
+                replica.setReadOnly(true);
+                replica.setMaximumPoolSize(maximumPoolSize);
+                // a replica that is down must fail over quickly, not after the primary's 30s timeout
+                replica.setConnectionTimeout(connectionTimeout.toMillis());
+                // start even if the replica is down; the health check brings it in later
+                replica.setInitializationFailTimeout(-1);
+                pools.add(replica);
+            }
+            return new ReplicaDataSource(pools, primary, healthCheckInterval);
+        }
+
+        @Bean
+        @Primary
+        LazyConnectionDataSourceProxy routingDataSource(
+                @Qualifier("primaryConnections") DataSource primary,
+                ReplicaDataSource replicaDataSource) {
+            LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(primary);
+            routing.setReadOnlyDataSource(replicaDataSource);
+            return routing;
+        }
+
+        @Bean
+        FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+                @Value("${employee.datasource.replicas.read-your-writes-window:5s}") Duration window) {
+            // default (lowest) order: after the security filter chain, so the principal is known
+            return new FilterRegistrationBean<>(new ReadYourWritesFilter(window));
+        }
+    }
+}
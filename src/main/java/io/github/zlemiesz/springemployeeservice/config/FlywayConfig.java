@@ -2,20 +2,130 @@ package io.github.zlemiesz.springemployeeservice.config;
 
 
 import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.NativeDetector;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 
 import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * Schema migrations, run when the {@link Flyway} bean is created.
+ * <p>
+ * {@code employee.flyway.startup-mode} controls how much work that is:
+ * <ul>
+ *     <li>{@code migrate} (default) - full {@code migrate()}, which checksums and validates every applied migration;</li>
+ *     <li>{@code migrate-if-behind} - compare the newest {@code V*} file name on the classpath with the
+ *     schema history head first and skip Flyway entirely when they are equal (rolling restarts of an
+ *     already migrated schema); anything else falls back to a full {@code migrate()};</li>
+ *     <li>{@code skip} - never touch the database (CDS training run, schema owned by a separate job).</li>
+ * </ul>
+ * In a native image the scripts are listed by {@link NativeMigrationResourceProvider}.
+ *
+ * @author Zbigniew Lemiesz
+ */
 @Configuration
 public class FlywayConfig {
 
-    @Bean(initMethod = "migrate")
-    Flyway flyway(DataSource dataSource) {
-        return Flyway.configure()
+    private static final Logger log = LoggerFactory.getLogger(FlywayConfig.class);
+
+    static final String LOCATION = "db/migration";
+
+    public enum StartupMode {
+        MIGRATE, MIGRATE_IF_BEHIND, SKIP
+    }
+
+    @Bean
+    Flyway flyway(DataSource dataSource,
+                  @Value("${employee.flyway.startup-mode:migrate}") StartupMode startupMode) {
+        FluentConfiguration configuration = Flyway.configure()
                 .dataSource(dataSource)
-                .locations("classpath:db/migration")
-                .baselineOnMigrate(true)
-                .load();
+                .locations("classpath:" + LOCATION)
+                .baselineOnMigrate(true);
+        if (NativeDetector.inNativeImage()) {
+            configuration.resourceProvider(new NativeMigrationResourceProvider(
+                    configuration.getLocations(), configuration.getClassLoader(), configuration.getEncoding()));
+        }
+        Flyway flyway = configuration.load();
+
+        switch (startupMode) {
+            case MIGRATE -> flyway.migrate();
+            case MIGRATE_IF_BEHIND -> migrateIfBehind(flyway, dataSource);
+            case SKIP -> log.info("Flyway migration skipped (employee.flyway.startup-mode=skip)");
+        }
+        return flyway;
+    }
+
+    private static void migrateIfBehind(Flyway flyway, DataSource dataSource) {
+        MigrationVersion available = latestVersion(migrationFileNames());
+        MigrationVersion applied = appliedHead(dataSource, flyway.getConfiguration().getTable());
+
+        if (available != null && available.equals(applied)) {
+            log.info("Schema is at version {}, Flyway validation skipped", applied);
+            return;
+        }
+        log.info("Schema at version {}, classpath at {}: running Flyway migrate", applied, available);
+        flyway.migrate();
+    }
+
+    /**
+     * Newest versioned migration among {@code V<version>__<description>.sql} file names, or {@code null}.
+     */
+    static MigrationVersion latestVersion(List<String> fileNames) {
+        MigrationVersion latest = null;
+        for (String name : fileNames) {
+            int separator = name.indexOf("__");
+            if (!name.startsWith("V") || separator < 2) {
+                continue;
+            }
+            MigrationVersion version = MigrationVersion.fromVersion(name.substring(1, separator).replace('_', '.'));
+            if (latest == null || version.compareTo(latest) > 0) {
+                latest = version;
+            }
+        }
+        return latest;
+    }
+
+    private static List<String> migrationFileNames() {
+        try {
+            List<String> names = new ArrayList<>();
+            for (Resource resource : new PathMatchingResourcePatternResolver()
+                    .getResources("classpath*:" + LOCATION + "/V*__*.sql")) {
+                names.add(resource.getFilename());
+            }
+            return names;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list Flyway migrations", e);
+        }
+    }
+
+    /**
+     * Version of the last successful versioned migration, or {@code null} when there is no history yet.
+     */
+    private static MigrationVersion appliedHead(DataSource dataSource, String table) {
+        String sql = "select version from " + table
+                + " where success = 1 and version is not null order by installed_rank desc limit 1";
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            return rs.next() ? MigrationVersion.fromVersion(rs.getString(1)) : null;
+        } catch (SQLException e) {
+            log.debug("Cannot read {}, treating schema as behind", table, e);
+            return null;
+        }
     }
 }
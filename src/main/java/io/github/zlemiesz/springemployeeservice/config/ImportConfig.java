@@ -0,0 +1,31 @@
+package io.github.zlemiesz.springemployeeservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Dedicated, bounded pool for employee imports so long-running imports never compete with
+ * request threads and a burst of uploads is rejected instead of queued without limit.
+ *
+ * @author Zbigniew Lemiesz
+ */
+@Configuration
+public class ImportConfig {
+
+    @Bean
+    ThreadPoolTaskExecutor employeeImportExecutor(@Value("${employee.import.concurrency:1}") int concurrency,
+                                                  @Value("${employee.import.queue-capacity:10}") int queueCapacity,
+                                                  @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("employee-import-");
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        // still a bounded pool, only the workers become virtual threads
+        executor.setVirtualThreads(virtualThreads);
+        return executor;
+    }
+}
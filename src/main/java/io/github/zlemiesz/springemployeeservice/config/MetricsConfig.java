@@ -0,0 +1,36 @@
+package io.github.zlemiesz.springemployeeservice.config;
+
+import io.github.zlemiesz.springemployeeservice.metrics.RequestMetricsFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Application-specific meters on top of the actuator ones ({@code http.server.requests}, {@code hikaricp.*},
+ * {@code cache.*}), all scraped from {@code /actuator/prometheus}. Switched off as a whole with
+ * {@code employee.metrics.enabled=false}: the other hooks then return immediately, and the per-request
+ * query counting runs only if {@code employee.query-stats.headers=true} still needs it.
+ *
+ * @author Zbigniew Lemiesz
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    @ConditionalOnExpression("${employee.metrics.enabled:true} or ${employee.query-stats.headers:false}")
+    FilterRegistrationBean<RequestMetricsFilter> requestMetricsFilter(
+            @Value("${employee.metrics.enabled:true}") boolean metricsEnabled,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        FilterRegistrationBean<RequestMetricsFilter> registration = new FilterRegistrationBean<>(
+                new RequestMetricsFilter(metricsEnabled ? meterRegistry.getIfAvailable(() -> Metrics.globalRegistry) : null));
+        // ahead of the security filters, so /login (handled inside them) is counted too
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
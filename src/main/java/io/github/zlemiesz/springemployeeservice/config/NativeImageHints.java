@@ -0,0 +1,55 @@
+package io.github.zlemiesz.springemployeeservice.config;
+
+import io.github.zlemiesz.springemployeeservice.metrics.EntityLoadCountingInterceptor;
+import io.github.zlemiesz.springemployeeservice.metrics.QueryStatsSessionListener;
+import io.github.zlemiesz.springemployeeservice.model.Employee;
+import io.github.zlemiesz.springemployeeservice.model.PasswordSetupToken;
+import io.github.zlemiesz.springemployeeservice.model.Role;
+import io.github.zlemiesz.springemployeeservice.model.UserAccount;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.sql.Connection;
+
+/**
+ * Reachability metadata for {@code -Pnative} that Spring AOT cannot infer from bean definitions:
+ * classes Hibernate instantiates from property strings, members looked up by name at runtime,
+ * JDK proxies and the Flyway scripts read through {@link NativeMigrationResourceProvider}.
+ * <p>
+ * Controller DTOs and repository types are registered by Spring AOT itself. The entities are also picked up
+ * from the JPA managed types, but are listed here with full field access so Hibernate's field-based
+ * access does not depend on that scan.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public class NativeImageHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // hibernate.session.events.auto / hibernate.session_factory.interceptor
+        hints.reflection()
+                .registerType(QueryStatsSessionListener.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)
+                .registerType(EntityLoadCountingInterceptor.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+        for (Class<?> entity : new Class<?>[]{Employee.class, UserAccount.class, Role.class, PasswordSetupToken.class}) {
+            hints.reflection().registerType(entity,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_DECLARED_METHODS,
+                    MemberCategory.ACCESS_DECLARED_FIELDS);
+        }
+
+        // GlobalExceptionHandler resolves Jackson path references by method name
+        hints.reflection()
+                .registerType(TypeReference.of("tools.jackson.core.JacksonException$Reference"),
+                        MemberCategory.INVOKE_PUBLIC_METHODS)
+                .registerType(TypeReference.of("tools.jackson.databind.exc.InvalidFormatException"),
+                        MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        // ConnectionLimitingDataSource hands out permit-releasing connection proxies
+        hints.proxies().registerJdkProxy(Connection.class);
+
+        hints.resources().registerPattern(FlywayConfig.LOCATION + "/*.sql");
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.zlemiesz.springemployeeservice.config;
+
+import org.flywaydb.core.api.Location;
+import org.flywaydb.core.api.ResourceProvider;
+import org.flywaydb.core.api.resource.LoadableResource;
+import org.flywaydb.core.internal.resource.classpath.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Lists Flyway scripts through Spring's resource resolver. Flyway's own classpath scanner walks jar files
+ * and directories, neither of which exist in a native image; the scripts themselves are registered as
+ * resources by {@link NativeImageHints}.
+ *
+ * @author Zbigniew Lemiesz
+ */
+class NativeMigrationResourceProvider implements ResourceProvider {
+
+    private final Location[] locations;
+    private final ClassLoader classLoader;
+    private final Charset encoding;
+    private final PathMatchingResourcePatternResolver resolver;
+
+    NativeMigrationResourceProvider(Location[] locations, ClassLoader classLoader, Charset encoding) {
+        this.locations = locations;
+        this.classLoader = classLoader;
+        this.encoding = encoding;
+        this.resolver = new PathMatchingResourcePatternResolver(classLoader);
+    }
+
+    @Override
+    public LoadableResource getResource(String name) {
+        if (classLoader.getResource(name) == null) {
+            return null;
+        }
+        return new ClassPathResource(null, name, classLoader, encoding);
+    }
+
+    @Override
+    public Collection<LoadableResource> getResources(String prefix, String[] suffixes) {
+        List<LoadableResource> found = new ArrayList<>();
+        for (Location location : locations) {
+            for (Resource resource : list(location)) {
+                String fileName = resource.getFilename();
+                if (fileName != null && fileName.startsWith(prefix) && endsWithAny(fileName, suffixes)) {
+                    found.add(new ClassPathResource(location, location.getPath() + "/" + fileName, classLoader, encoding));
+                }
+            }
+        }
+        return found;
+    }
+
+    private Resource[] list(Location location) {
+        try {
+            return resolver.getResources("classpath*:" + location.getPath() + "/*");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list " + location, e);
+        }
+    }
+
+    private static boolean endsWithAny(String fileName, String[] suffixes) {
+        for (String suffix : suffixes) {
+            if (fileName.endsWith(suffix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,25 +1,65 @@
 package io.github.zlemiesz.springemployeeservice.config;
 
+import io.github.zlemiesz.springemployeeservice.dto.auth.AccessTokenResponse;
+import io.github.zlemiesz.springemployeeservice.exception.PasswordHashingBusyException;
+import io.github.zlemiesz.springemployeeservice.metrics.ProblemDetailMetrics;
+import io.github.zlemiesz.springemployeeservice.security.AccessTokenAuthenticationFilter;
+import io.github.zlemiesz.springemployeeservice.security.AccessTokenService;
+import io.github.zlemiesz.springemployeeservice.security.BoundedPasswordEncoder;
+import io.github.zlemiesz.springemployeeservice.security.InMemoryLoginRateLimitStore;
+import io.github.zlemiesz.springemployeeservice.security.LoginRateLimit;
+import io.github.zlemiesz.springemployeeservice.security.LoginRateLimitFilter;
+import io.github.zlemiesz.springemployeeservice.security.LoginRateLimitStore;
+import io.github.zlemiesz.springemployeeservice.security.LoginRateLimiter;
+import io.github.zlemiesz.springemployeeservice.security.PasswordEncoders;
+import io.github.zlemiesz.springemployeeservice.security.PrincipalCache;
+import io.github.zlemiesz.springemployeeservice.security.TimedAuthenticationProvider;
+import io.github.zlemiesz.springemployeeservice.security.UserPrincipal;
+import io.github.zlemiesz.springemployeeservice.service.DbUserDetailsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.access.AccessDeniedHandler;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
 import java.util.List;
 
 /**
+ * {@code security.auth.mode=session} (default): form login backed by an {@code HttpSession}.
+ * {@code security.auth.mode=token}: {@code /login} returns a signed bearer token and every request
+ * is authenticated from that token alone, no session is created (see {@link AccessTokenService}).
+ * In both modes {@code POST /login} is throttled per client address and email
+ * ({@code security.login.rate-limit.*}, see {@link LoginRateLimiter}).
+ *
  * @author Zbigniew Lemiesz
  */
 
@@ -27,26 +67,56 @@ import java.util.List;
 @EnableMethodSecurity
 public class SecurityConfig {
 
+    private static final String LOGIN_PATH = "/login";
+    private static final String USERNAME_PARAMETER = "email";
+
     @Bean
     SecurityFilterChain securityFilterChain(HttpSecurity http,
                                             AuthenticationEntryPoint restEntryPoint,
-                                            AccessDeniedHandler restDeniedHandler) throws Exception {
+                                            AccessDeniedHandler restDeniedHandler,
+                                            @Value("${security.auth.mode:session}") String authMode,
+                                            ObjectProvider<AccessTokenService> accessTokenService,
+                                            ObjectProvider<LoginRateLimiter> loginRateLimiter,
+                                            ObjectMapper objectMapper,
+                                            ProblemDetailMetrics problemDetailMetrics,
+                                            @Value("${server.port:8080}") int serverPort,
+                                            @Value("${management.server.port:-1}") int managementPort) throws Exception {
+
+        boolean tokenMode = "token".equalsIgnoreCase(authMode);
 
         http
                 .cors(Customizer.withDefaults())
 
                 .csrf(csrf -> csrf.disable())
 
-                .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED))
+                .sessionManagement(sm -> sm.sessionCreationPolicy(
+                        tokenMode ? SessionCreationPolicy.STATELESS : SessionCreationPolicy.IF_REQUIRED))
 
 
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/login", "/logout").permitAll()
+                        .requestMatchers(LOGIN_PATH, "/logout").permitAll()
+
+                        // ACTUATOR: health is public, metrics and caches for ADMIN only;
+                        // prometheus is scraped without login, but only on the internal management port
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers(new AndRequestMatcher(
+                                onManagementPort(serverPort, managementPort),
+                                PathPatternRequestMatcher.withDefaults().matcher("/actuator/prometheus")))
+                        .permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+
+                        // EXPORT (whole directory) and IMPORT status: HR, ADMIN
+                        .requestMatchers(HttpMethod.GET, "/employee/export", "/employee/import/**")
+                        .hasAnyRole("HR", "ADMIN")
 
                         // READ: VIEWER, MANAGER, HR, ADMIN
                         .requestMatchers(HttpMethod.GET, "/employee/**")
                         .hasAnyRole("VIEWER", "MANAGER", "HR", "ADMIN")
 
+                        // BATCH DELETE: ADMIN (POST, so it must come before the CREATE rule)
+                        .requestMatchers(HttpMethod.POST, "/employee/batch/delete")
+                        .hasRole("ADMIN")
+
                         // CREATE: HR, ADMIN
                         .requestMatchers(HttpMethod.POST, "/employee/**")
                         .hasAnyRole("HR", "ADMIN")
@@ -65,13 +135,20 @@ public class SecurityConfig {
                 )
 
                 .formLogin(form -> form
-                        .loginProcessingUrl("/login")
-                        .usernameParameter("email")
+                        .loginProcessingUrl(LOGIN_PATH)
+                        .usernameParameter(USERNAME_PARAMETER)
                         .passwordParameter("password")
-                        .successHandler((request, response, authentication) -> {
-                            response.setStatus(HttpStatus.NO_CONTENT.value()); // 204
-                        })
+                        .successHandler(tokenMode
+                                ? issueToken(accessTokenService.getObject(), objectMapper)
+                                : (request, response, authentication) -> {
+                                    response.setStatus(HttpStatus.NO_CONTENT.value()); // 204
+                                })
                         .failureHandler((request, response, ex) -> {
+                            if (ex instanceof PasswordHashingBusyException) {
+                                response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value()); // 503
+                                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                                return;
+                            }
                             response.setStatus(HttpStatus.UNAUTHORIZED.value()); // 401
                         })
                 )
@@ -89,14 +166,117 @@ public class SecurityConfig {
                         .accessDeniedHandler(restDeniedHandler)
                 );
 
+        LoginRateLimiter limiter = loginRateLimiter.getIfAvailable();
+        if (limiter != null) {
+            http.addFilterBefore(
+                    new LoginRateLimitFilter(
+                            limiter, LOGIN_PATH, USERNAME_PARAMETER, objectMapper, problemDetailMetrics),
+                    UsernamePasswordAuthenticationFilter.class
+            );
+        }
+
+        if (tokenMode) {
+            // no session: the token filter keeps the context in a request attribute, where the
+            // async dispatch of GET /employee/export finds it again
+            SecurityContextRepository contextRepository = new RequestAttributeSecurityContextRepository();
+            http.securityContext(context -> context.securityContextRepository(contextRepository));
+            http.addFilterBefore(
+                    new AccessTokenAuthenticationFilter(
+                            accessTokenService.getObject(), restEntryPoint, contextRepository),
+                    UsernamePasswordAuthenticationFilter.class
+            );
+        }
+
         return http.build();
     }
 
+    /**
+     * Requests that came in on a separate {@code management.server.port}; never matches when the
+     * actuator shares the application port.
+     */
+    private static RequestMatcher onManagementPort(int serverPort, int managementPort) {
+        if (managementPort <= 0 || managementPort == serverPort) {
+            return request -> false;
+        }
+        return request -> request.getLocalPort() == managementPort;
+    }
+
+    private static AuthenticationSuccessHandler issueToken(AccessTokenService accessTokenService,
+                                                           ObjectMapper objectMapper) {
+        return (request, response, authentication) -> {
+            UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+            AccessTokenResponse body = new AccessTokenResponse(
+                    accessTokenService.issue(principal),
+                    AccessTokenService.TOKEN_TYPE,
+                    accessTokenService.ttl().toSeconds()
+            );
+
+            response.setStatus(HttpStatus.OK.value()); // 200
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+            objectMapper.writeValue(response.getOutputStream(), body);
+        };
+    }
+
     @Bean
-    PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    PasswordEncoder passwordEncoder(@Value("${security.password.algorithm:bcrypt}") String algorithm,
+                                    @Value("${security.password.bcrypt-strength:10}") int bcryptStrength,
+                                    @Value("${security.password.argon2.memory-kib:19456}") int argon2MemoryKib,
+                                    @Value("${security.password.argon2.iterations:2}") int argon2Iterations,
+                                    @Value("${security.password.argon2.parallelism:1}") int argon2Parallelism,
+                                    @Value("${security.password.pool-size:0}") int poolSize,
+                                    @Value("${security.password.queue-capacity:50}") int queueCapacity,
+                                    @Value("${security.password.timeout:5s}") Duration timeout,
+                                    ObjectProvider<MeterRegistry> meterRegistry) {
+        int workers = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(
+                PasswordEncoders.delegating(
+                        algorithm, bcryptStrength, argon2MemoryKib, argon2Iterations, argon2Parallelism),
+                workers,
+                queueCapacity,
+                timeout,
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry)
+        );
     }
 
+    @Bean
+    AuthenticationProvider authenticationProvider(DbUserDetailsService userDetailsService,
+                                                  PasswordEncoder passwordEncoder,
+                                                  PrincipalCache principalCache,
+                                                  @Value("${employee.metrics.enabled:true}") boolean metricsEnabled,
+                                                  ObjectProvider<MeterRegistry> meterRegistry) {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(userDetailsService);
+        provider.setPasswordEncoder(passwordEncoder);
+        provider.setUserDetailsPasswordService(userDetailsService);
+        provider.setUserCache(principalCache);
+
+        if (!metricsEnabled) {
+            return provider;
+        }
+        return new TimedAuthenticationProvider(provider, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    /**
+     * Uses a {@link LoginRateLimitStore} bean when the context has one (shared across nodes),
+     * otherwise a node-local {@link InMemoryLoginRateLimitStore}.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "security.login.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+    LoginRateLimiter loginRateLimiter(ObjectProvider<LoginRateLimitStore> store,
+                                      @Value("${security.login.rate-limit.email.capacity:5}") int emailCapacity,
+                                      @Value("${security.login.rate-limit.email.window:5m}") Duration emailWindow,
+                                      @Value("${security.login.rate-limit.ip.capacity:20}") int ipCapacity,
+                                      @Value("${security.login.rate-limit.ip.window:1m}") Duration ipWindow,
+                                      @Value("${security.login.rate-limit.stripes:64}") int stripes,
+                                      @Value("${security.login.rate-limit.max-keys:100000}") int maxKeys,
+                                      ObjectProvider<MeterRegistry> meterRegistry) {
+        return new LoginRateLimiter(
+                store.getIfAvailable(() -> new InMemoryLoginRateLimitStore(stripes, maxKeys)),
+                new LoginRateLimit(emailCapacity, emailWindow),
+                new LoginRateLimit(ipCapacity, ipWindow),
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry)
+        );
+    }
 
     @Bean
     CorsConfigurationSource corsConfigurationSource() {
@@ -109,8 +289,11 @@ public class SecurityConfig {
         config.setAllowedHeaders(List.of(
                 "Content-Type",
                 "Authorization",
-                "X-XSRF-TOKEN"
+                "X-XSRF-TOKEN",
+                "If-Match",
+                "If-None-Match"
         ));
+        config.setExposedHeaders(List.of("ETag"));
         config.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source =
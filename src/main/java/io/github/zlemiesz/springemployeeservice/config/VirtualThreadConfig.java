@@ -0,0 +1,80 @@
+package io.github.zlemiesz.springemployeeservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.github.zlemiesz.springemployeeservice.datasource.ConnectionLimitingDataSource;
+import io.github.zlemiesz.springemployeeservice.runtime.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+/**
+ * Guardrails for {@code spring.threads.virtual.enabled=true}, where Tomcat requests, {@code @Async}
+ * tasks and the import executor run on virtual threads:
+ * <ul>
+ *     <li>the {@code @Primary} DataSource is a {@link ConnectionLimitingDataSource} over the Hikari pool
+ *     (the {@code dataSource} bean, still a {@code HikariDataSource}), sized from the pool itself,
+ *     so unbounded request concurrency turns into a bounded FIFO wait and fast failure, not 30s timeouts;</li>
+ *     <li>{@link VirtualThreadPinningMonitor} reports virtual threads pinned by {@code synchronized} via JFR.</li>
+ * </ul>
+ * The password hashing pool stays on platform threads on purpose: it is CPU-bound.
+ *
+ * @author Zbigniew Lemiesz
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    /**
+     * With read replicas the {@code @Primary} DataSource is the routing proxy, which puts the limiter
+     * between itself and the primary pool instead (see {@code DataSourceConfig.ReplicaRouting}).
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "employee.datasource.replicas.enabled", havingValue = "false", matchIfMissing = true)
+    ConnectionLimitingDataSource connectionLimitingDataSource(
+            @Qualifier("dataSource") HikariDataSource pool,
+            @Value("${employee.datasource.limiter.max-waiting:1000}") int maxWaiting) {
+        return connectionLimiter(pool, maxWaiting);
+    }
+
+    /**
+     * Limiter sized from the pool itself: its maximum size and connection timeout.
+     */
+    static ConnectionLimitingDataSource connectionLimiter(HikariDataSource pool, int maxWaiting) {
+        ConnectionLimitingDataSource limited = new ConnectionLimitingDataSource(
+                pool,
+                pool.getMaximumPoolSize(),
+                maxWaiting,
+                Duration.ofMillis(pool.getConnectionTimeout())
+        );
+
+        // global registry, like the Hikari pool metrics: Boot adds the auto-configured registry to it
+        MeterRegistry registry = Metrics.globalRegistry;
+        Gauge.builder("jdbc.connections.limiter.waiting", limited, ConnectionLimitingDataSource::waiting)
+                .description("Threads waiting for a database connection permit")
+                .tag("name", pool.getPoolName())
+                .register(registry);
+        Gauge.builder("jdbc.connections.limiter.active", limited, ConnectionLimitingDataSource::inUse)
+                .description("Database connection permits in use")
+                .tag("name", pool.getPoolName())
+                .register(registry);
+        return limited;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "employee.virtual-threads.pinning-monitor.enabled", matchIfMissing = true)
+    VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            @Value("${employee.virtual-threads.pinning-threshold:20ms}") Duration threshold,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new VirtualThreadPinningMonitor(threshold, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+}
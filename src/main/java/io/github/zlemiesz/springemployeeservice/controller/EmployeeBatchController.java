@@ -0,0 +1,54 @@
+package io.github.zlemiesz.springemployeeservice.controller;
+
+import io.github.zlemiesz.springemployeeservice.dto.EmployeeCreateDto;
+import io.github.zlemiesz.springemployeeservice.dto.batch.BatchResponse;
+import io.github.zlemiesz.springemployeeservice.dto.batch.EmployeeBatchDeleteDto;
+import io.github.zlemiesz.springemployeeservice.dto.batch.EmployeeBatchPutDto;
+import io.github.zlemiesz.springemployeeservice.service.EmployeeBatchService;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Bulk variants of the employee write endpoints. Items are validated one by one and the response
+ * reports the outcome of every item ({@link BatchResponse}); a batch is always answered with 200
+ * unless the request itself is malformed.
+ *
+ * @author Zbigniew Lemiesz
+ */
+@RestController
+@RequestMapping("/employee/batch")
+@Validated
+public class EmployeeBatchController {
+
+    public static final int MAX_ITEMS = 1000;
+
+    private final EmployeeBatchService batchService;
+
+    public EmployeeBatchController(EmployeeBatchService batchService) {
+        this.batchService = batchService;
+    }
+
+    @PreAuthorize("hasAnyRole('HR','ADMIN')")
+    @PostMapping
+    public BatchResponse create(@RequestBody @NotEmpty @Size(max = MAX_ITEMS) List<EmployeeCreateDto> items) {
+        return batchService.createAll(items);
+    }
+
+    @PreAuthorize("hasAnyRole('MANAGER','HR','ADMIN')")
+    @PutMapping
+    public BatchResponse update(@RequestBody @NotEmpty @Size(max = MAX_ITEMS) List<EmployeeBatchPutDto> items) {
+        return batchService.updateAll(items);
+    }
+
+    // POST rather than DELETE: request bodies on DELETE are dropped by some clients and proxies
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/delete")
+    public BatchResponse delete(@RequestBody @NotEmpty @Size(max = MAX_ITEMS) List<EmployeeBatchDeleteDto> items) {
+        return batchService.deleteAll(items);
+    }
+}
@@ -1,17 +1,28 @@
 package io.github.zlemiesz.springemployeeservice.controller;
 
 import io.github.zlemiesz.springemployeeservice.dto.*;
+import io.github.zlemiesz.springemployeeservice.dto.common.CursorPageResponse;
 import io.github.zlemiesz.springemployeeservice.dto.common.PageResponse;
+import io.github.zlemiesz.springemployeeservice.pagination.CountMode;
 import io.github.zlemiesz.springemployeeservice.service.EmployeeService;
+import io.github.zlemiesz.springemployeeservice.specification.MatchMode;
+import io.github.zlemiesz.springemployeeservice.web.EmployeeETag;
 import jakarta.validation.Valid;
-import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Positive;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.SortDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -30,30 +41,97 @@ public class EmployeeController {
         this.service = service;
     }
 
+    /**
+     * {@code count=EXACT} (default) runs COUNT(*), {@code NONE} skips it and {@code ESTIMATED}
+     * uses table statistics or a cached count, see {@link PageResponse#totalExact()}.
+     * {@code match=PREFIX|EXACT} lets the filters use indexes, see {@link MatchMode}.
+     */
     @PreAuthorize("hasAnyRole('VIEWER','MANAGER','HR','ADMIN')")
     @GetMapping
     public PageResponse<EmployeeResponseDto> getAll(
             @RequestParam(required = false) String firstName,
             @RequestParam(required = false) String lastName,
             @RequestParam(required = false) String email,
+            @RequestParam(defaultValue = "CONTAINS") MatchMode match,
+            @RequestParam(defaultValue = "EXACT") CountMode count,
             Pageable pageable
     ) {
-        Page<EmployeeResponseDto> page = service.findAll(firstName, lastName, email, pageable);
+        if (count == CountMode.EXACT) {
+            Page<EmployeeResponseDto> page = service.findAll(firstName, lastName, email, match, pageable);
+            return new PageResponse<>(
+                    page.getContent(),
+                    page.getNumber(),
+                    page.getSize(),
+                    page.getTotalElements(),
+                    page.getTotalPages(),
+                    page.isFirst(),
+                    page.isLast(),
+                    true
+            );
+        }
+
+        Slice<EmployeeResponseDto> slice = service.findSlice(firstName, lastName, email, match, pageable);
+        if (count == CountMode.NONE) {
+            return new PageResponse<>(
+                    slice.getContent(),
+                    slice.getNumber(),
+                    slice.getSize(),
+                    null,
+                    null,
+                    slice.isFirst(),
+                    slice.isLast(),
+                    false
+            );
+        }
+
+        // on the last slice the total is known exactly, otherwise never report less than what was seen
+        long seen = pageable.isPaged() ? pageable.getOffset() + slice.getNumberOfElements() : slice.getNumberOfElements();
+        boolean exact = !slice.hasNext();
+        long total = exact ? seen : Math.max(service.estimateTotal(firstName, lastName, email, match), seen + 1);
+        int totalPages = slice.getSize() > 0 ? (int) Math.ceilDiv(total, slice.getSize()) : 1;
+
         return new PageResponse<>(
-                page.getContent(),
-                page.getNumber(),
-                page.getSize(),
-                page.getTotalElements(),
-                page.getTotalPages(),
-                page.isFirst(),
-                page.isLast()
+                slice.getContent(),
+                slice.getNumber(),
+                slice.getSize(),
+                total,
+                totalPages,
+                slice.isFirst(),
+                slice.isLast(),
+                exact
         );
     }
 
+    /**
+     * Keyset pagination, opt-in with {@code pagination=cursor}. Pass {@code nextCursor} from the
+     * previous response as {@code after}; the sort order must stay the same between pages.
+     */
+    @PreAuthorize("hasAnyRole('VIEWER','MANAGER','HR','ADMIN')")
+    @GetMapping(params = "pagination=cursor")
+    public CursorPageResponse<EmployeeResponseDto> getAllByCursor(
+            @RequestParam(required = false) String firstName,
+            @RequestParam(required = false) String lastName,
+            @RequestParam(required = false) String email,
+            @RequestParam(defaultValue = "CONTAINS") MatchMode match,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") @Positive @Max(1000) int size,
+            @SortDefault(sort = "id") Sort sort
+    ) {
+        return service.findAllAfter(firstName, lastName, email, match, after, size, sort);
+    }
+
+    /**
+     * Responds with a strong {@code ETag} ({@link EmployeeETag}). A matching {@code If-None-Match}
+     * is answered with 304 from the version alone, without loading or serializing the employee.
+     */
     @PreAuthorize("hasAnyRole('VIEWER','MANAGER','HR','ADMIN')")
     @GetMapping("/{id}")
-    public EmployeeResponseDto getById(@PathVariable @Positive Long id) {
-        return service.findById(id);
+    public ResponseEntity<EmployeeResponseDto> getById(@PathVariable @Positive Long id, WebRequest request) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && request.checkNotModified(EmployeeETag.of(id, service.findVersion(id)))) {
+            return null;
+        }
+        return withETag(service.findById(id));
     }
 
     @PreAuthorize("hasAnyRole('HR','ADMIN')")
@@ -65,21 +143,39 @@ public class EmployeeController {
 
     @PreAuthorize("hasAnyRole('MANAGER','HR','ADMIN')")
     @PutMapping("/{id}")
-    public EmployeeResponseDto update(@PathVariable @Positive Long id, @Valid @RequestBody EmployeePutDto dto) {
-        return service.update(id, dto);
+    public ResponseEntity<EmployeeResponseDto> update(@PathVariable @Positive Long id,
+                                                      @Valid @RequestBody EmployeePutDto dto) {
+        return withETag(service.update(id, dto));
     }
 
     @PreAuthorize("hasAnyRole('MANAGER','HR','ADMIN')")
     @PatchMapping("/{id}")
-    public EmployeeResponseDto patch(@PathVariable @Positive Long id, @Valid @RequestBody EmployeePatchDto employeePatchDto) {
-        return service.patchDto(id, employeePatchDto);
+    public ResponseEntity<EmployeeResponseDto> patch(@PathVariable @Positive Long id,
+                                                     @Valid @RequestBody EmployeePatchDto employeePatchDto) {
+        return withETag(service.patchDto(id, employeePatchDto));
     }
 
     @PreAuthorize("hasRole('ADMIN')")
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void delete(@PathVariable @Positive Long id, @RequestParam @NotNull @Positive Long version) {
-        service.delete(id, version);
+    public void delete(@PathVariable @Positive Long id,
+                       @RequestParam(required = false) @Positive Long version,
+                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
+            throws MissingServletRequestParameterException {
+        Long expected = version != null ? version : EmployeeETag.versionFromIfMatch(ifMatch, id);
+        if (expected == null) {
+            throw new MissingServletRequestParameterException("version", "Long");
+        }
+        service.delete(id, expected);
+    }
+
+    private static ResponseEntity<EmployeeResponseDto> withETag(EmployeeResponseDto employee) {
+        if (employee == null || employee.getId() == null || employee.getVersion() == null) {
+            return ResponseEntity.ok(employee);
+        }
+        return ResponseEntity.ok()
+                .eTag(EmployeeETag.of(employee.getId(), employee.getVersion()))
+                .body(employee);
     }
 }
 
@@ -0,0 +1,52 @@
+package io.github.zlemiesz.springemployeeservice.controller;
+
+import io.github.zlemiesz.springemployeeservice.service.EmployeeExportService;
+import io.github.zlemiesz.springemployeeservice.specification.MatchMode;
+import io.github.zlemiesz.springemployeeservice.transfer.DataFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Full directory dump with the same filters as {@code GET /employee}. The body is written on an
+ * async request thread while rows are read from the database, so the export of any size needs
+ * neither paging nor a buffered response.
+ *
+ * @author Zbigniew Lemiesz
+ */
+@RestController
+@RequestMapping("/employee/export")
+public class EmployeeExportController {
+
+    private final EmployeeExportService exportService;
+
+    public EmployeeExportController(EmployeeExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @PreAuthorize("hasAnyRole('HR','ADMIN')")
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) String firstName,
+            @RequestParam(required = false) String lastName,
+            @RequestParam(required = false) String email,
+            @RequestParam(defaultValue = "CONTAINS") MatchMode match,
+            @RequestParam(defaultValue = "NDJSON") DataFormat format
+    ) {
+        StreamingResponseBody body = out -> exportService.export(firstName, lastName, email, match, format, out);
+
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("employees." + format.extension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+}
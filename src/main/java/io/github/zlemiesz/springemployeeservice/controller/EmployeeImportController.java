@@ -0,0 +1,51 @@
+package io.github.zlemiesz.springemployeeservice.controller;
+
+import io.github.zlemiesz.springemployeeservice.dto.transfer.ImportJobResponse;
+import io.github.zlemiesz.springemployeeservice.service.EmployeeImportService;
+import io.github.zlemiesz.springemployeeservice.transfer.DataFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * Bulk import from a raw CSV or NDJSON request body (not multipart, so the upload is never
+ * buffered in memory). Answers 202 with the job; progress and the per-row error report
+ * are available under the returned {@code Location}.
+ *
+ * @author Zbigniew Lemiesz
+ */
+@RestController
+@RequestMapping("/employee/import")
+public class EmployeeImportController {
+
+    private final EmployeeImportService importService;
+
+    public EmployeeImportController(EmployeeImportService importService) {
+        this.importService = importService;
+    }
+
+    @PreAuthorize("hasAnyRole('HR','ADMIN')")
+    @PostMapping
+    public ResponseEntity<ImportJobResponse> submit(@RequestParam(defaultValue = "CSV") DataFormat format,
+                                                    InputStream body) throws IOException {
+        ImportJobResponse job = importService.submit(format, body);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequestUri()
+                .replaceQuery(null)
+                .path("/{id}")
+                .buildAndExpand(job.id())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(job);
+    }
+
+    @PreAuthorize("hasAnyRole('HR','ADMIN')")
+    @GetMapping("/{jobId}")
+    public ImportJobResponse status(@PathVariable UUID jobId) {
+        return importService.status(jobId);
+    }
+}
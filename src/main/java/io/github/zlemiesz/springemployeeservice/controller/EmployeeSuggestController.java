@@ -0,0 +1,44 @@
+package io.github.zlemiesz.springemployeeservice.controller;
+
+import io.github.zlemiesz.springemployeeservice.dto.EmployeeSuggestionDto;
+import io.github.zlemiesz.springemployeeservice.search.EmployeeSuggestIndex;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Type-ahead served from {@link EmployeeSuggestIndex}, without touching the database.
+ *
+ * @author Zbigniew Lemiesz
+ */
+@RestController
+@RequestMapping("/employee")
+@Validated
+@ConditionalOnProperty(name = "employee.suggest.enabled", havingValue = "true")
+public class EmployeeSuggestController {
+
+    private final EmployeeSuggestIndex suggestIndex;
+
+    public EmployeeSuggestController(EmployeeSuggestIndex suggestIndex) {
+        this.suggestIndex = suggestIndex;
+    }
+
+    @PreAuthorize("hasAnyRole('VIEWER','MANAGER','HR','ADMIN')")
+    @GetMapping("/suggest")
+    public List<EmployeeSuggestionDto> suggest(
+            @RequestParam @NotBlank @Size(max = 100) String q,
+            @RequestParam(defaultValue = "10") @Positive @Max(50) int limit
+    ) {
+        return suggestIndex.suggest(q, limit);
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.zlemiesz.springemployeeservice.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-thread override of the read routing: while pinned, read-only transactions also go to the primary.
+ * Set by {@link ReadYourWritesFilter} for the duration of a request, and by {@link #onPrimary} around
+ * reads whose result outlives the request (shared caches must not be filled from a lagging replica).
+ *
+ * @author Zbigniew Lemiesz
+ */
+public final class ReadRouting {
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private ReadRouting() {
+    }
+
+    public static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        PINNED_TO_PRIMARY.remove();
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return PINNED_TO_PRIMARY.get() != null;
+    }
+
+    /**
+     * Runs {@code read} pinned to the primary; an outer pin (the request's) is left in place.
+     */
+    public static <T> T onPrimary(Supplier<T> read) {
+        if (isPinnedToPrimary()) {
+            return read.get();
+        }
+        pinToPrimary();
+        try {
+            return read.get();
+        } finally {
+            clear();
+        }
+    }
+}
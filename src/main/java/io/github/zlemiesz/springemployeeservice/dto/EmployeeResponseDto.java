@@ -11,6 +11,20 @@ public class EmployeeResponseDto {
     private String email;
     private Long version;
 
+    public EmployeeResponseDto() {
+    }
+
+    /**
+     * Used by JPA constructor-expression queries ({@code cb.construct(...)}), keep the argument order.
+     */
+    public EmployeeResponseDto(Long id, String firstName, String lastName, String email, Long version) {
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+        this.version = version;
+    }
+
     public Long getId() {
         return id;
     }
@@ -0,0 +1,12 @@
+package io.github.zlemiesz.springemployeeservice.dto;
+
+/**
+ * @author Zbigniew Lemiesz
+ */
+public record EmployeeSuggestionDto(
+        Long id,
+        String firstName,
+        String lastName,
+        String email
+) {
+}
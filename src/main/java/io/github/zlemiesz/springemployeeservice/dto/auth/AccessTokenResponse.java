@@ -0,0 +1,12 @@
+package io.github.zlemiesz.springemployeeservice.dto.auth;
+
+/**
+ * Body of a successful {@code POST /login} when {@code security.auth.mode=token}.
+ *
+ * @param expiresIn lifetime in seconds
+ */
+public record AccessTokenResponse(
+        String accessToken,
+        String tokenType,
+        long expiresIn
+) {}
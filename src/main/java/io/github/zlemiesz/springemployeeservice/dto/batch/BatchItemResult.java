@@ -0,0 +1,33 @@
+package io.github.zlemiesz.springemployeeservice.dto.batch;
+
+import io.github.zlemiesz.springemployeeservice.handler.error.ValidationError;
+
+import java.util.List;
+
+/**
+ * Outcome of one batch item; {@code index} is its position in the request array.
+ * {@code version} is the new version after a write, or the current one on {@link BatchItemStatus#VERSION_CONFLICT}.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public record BatchItemResult(
+        int index,
+        Long id,
+        BatchItemStatus status,
+        Long version,
+        List<ValidationError> errors
+) {
+
+    public static BatchItemResult success(int index, BatchItemStatus status, Long id, Long version) {
+        return new BatchItemResult(index, id, status, version, List.of());
+    }
+
+    public static BatchItemResult failure(int index, BatchItemStatus status, Long id, Long version,
+                                          List<ValidationError> errors) {
+        return new BatchItemResult(index, id, status, version, errors);
+    }
+
+    public static BatchItemResult failure(int index, BatchItemStatus status, Long id, String field, String message) {
+        return failure(index, status, id, null, List.of(new ValidationError(field, message)));
+    }
+}
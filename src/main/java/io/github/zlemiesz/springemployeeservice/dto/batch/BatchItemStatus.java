@@ -0,0 +1,18 @@
+package io.github.zlemiesz.springemployeeservice.dto.batch;
+
+/**
+ * @author Zbigniew Lemiesz
+ */
+public enum BatchItemStatus {
+    CREATED,
+    UPDATED,
+    DELETED,
+    INVALID,
+    NOT_FOUND,
+    VERSION_CONFLICT,
+    EMAIL_CONFLICT;
+
+    public boolean isSuccess() {
+        return this == CREATED || this == UPDATED || this == DELETED;
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.zlemiesz.springemployeeservice.dto.batch;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Per-item results of a batch request, in request order.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public record BatchResponse(
+        List<BatchItemResult> items,
+        int succeeded,
+        int failed
+) {
+
+    public static BatchResponse of(List<BatchItemResult> items) {
+        List<BatchItemResult> ordered = items.stream()
+                .sorted(Comparator.comparingInt(BatchItemResult::index))
+                .toList();
+        int succeeded = (int) ordered.stream().filter(item -> item.status().isSuccess()).count();
+        return new BatchResponse(ordered, succeeded, ordered.size() - succeeded);
+    }
+}
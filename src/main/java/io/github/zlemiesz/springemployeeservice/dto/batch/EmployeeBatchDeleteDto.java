@@ -0,0 +1,15 @@
+package io.github.zlemiesz.springemployeeservice.dto.batch;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * One item of {@code POST /employee/batch/delete}.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public record EmployeeBatchDeleteDto(
+        @NotNull @Positive Long id,
+        @NotNull(message = "{common.versionRequired}") Long version
+) {
+}
@@ -0,0 +1,25 @@
+package io.github.zlemiesz.springemployeeservice.dto.batch;
+
+import io.github.zlemiesz.springemployeeservice.dto.EmployeePutDto;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * One item of {@code PUT /employee/batch}: a full update of employee {@code id}.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public class EmployeeBatchPutDto extends EmployeePutDto {
+
+    @NotNull
+    @Positive
+    private Long id;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+}
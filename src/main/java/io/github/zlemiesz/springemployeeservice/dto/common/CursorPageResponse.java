@@ -0,0 +1,17 @@
+package io.github.zlemiesz.springemployeeservice.dto.common;
+
+import java.util.List;
+
+/**
+ * Keyset page: {@code nextCursor} is passed back as {@code after} to fetch the next page
+ * and is {@code null} on the last page.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public record CursorPageResponse<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -3,15 +3,19 @@ package io.github.zlemiesz.springemployeeservice.dto.common;
 import java.util.List;
 
 /**
+ * {@code totalElements} and {@code totalPages} are {@code null} when the count was skipped
+ * and approximate when {@code totalExact} is {@code false}.
+ *
  * @author Zbigniew Lemiesz
  */
 public record PageResponse<T>(
         List<T> content,
         int page,
         int size,
-        long totalElements,
-        int totalPages,
+        Long totalElements,
+        Integer totalPages,
         boolean first,
-        boolean last
+        boolean last,
+        boolean totalExact
 ) {
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package io.github.zlemiesz.springemployeeservice.dto.transfer;
+
+import io.github.zlemiesz.springemployeeservice.transfer.DataFormat;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Progress of an import. {@code errors} keeps the first failed rows only; {@code errorsTruncated}
+ * tells that {@code failed} is larger than the report.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public record ImportJobResponse(
+        UUID id,
+        DataFormat format,
+        ImportJobStatus status,
+        long processed,
+        long created,
+        long failed,
+        List<ImportRowError> errors,
+        boolean errorsTruncated,
+        String message,
+        Instant submittedAt,
+        Instant startedAt,
+        Instant finishedAt
+) {
+}
@@ -0,0 +1,15 @@
+package io.github.zlemiesz.springemployeeservice.dto.transfer;
+
+/**
+ * @author Zbigniew Lemiesz
+ */
+public enum ImportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
@@ -0,0 +1,13 @@
+package io.github.zlemiesz.springemployeeservice.dto.transfer;
+
+import io.github.zlemiesz.springemployeeservice.handler.error.ValidationError;
+
+import java.util.List;
+
+/**
+ * Why line {@code row} of the uploaded file was not imported.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public record ImportRowError(long row, List<ValidationError> errors) {
+}
@@ -0,0 +1,28 @@
+package io.github.zlemiesz.springemployeeservice.event;
+
+import io.github.zlemiesz.springemployeeservice.dto.EmployeeResponseDto;
+
+/**
+ * Published by the employee write paths. {@code current} is {@code null} when the employee was deleted;
+ * {@code previousEmail} is the email before the change ({@code null} for a new employee).
+ *
+ * @author Zbigniew Lemiesz
+ */
+public record EmployeeChangedEvent(Long id, EmployeeResponseDto current, String previousEmail) {
+
+    public static EmployeeChangedEvent saved(EmployeeResponseDto current) {
+        return saved(current, null);
+    }
+
+    public static EmployeeChangedEvent saved(EmployeeResponseDto current, String previousEmail) {
+        return new EmployeeChangedEvent(current.getId(), current, previousEmail);
+    }
+
+    public static EmployeeChangedEvent deleted(Long id, String email) {
+        return new EmployeeChangedEvent(id, null, email);
+    }
+
+    public boolean isDeleted() {
+        return current == null;
+    }
+}
@@ -0,0 +1,9 @@
+package io.github.zlemiesz.springemployeeservice.event;
+
+/**
+ * A {@code user_accounts} row was updated (password hash, enabled flag) or deleted.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public record UserAccountChangedEvent(Long userAccountId) {
+}
@@ -0,0 +1,13 @@
+package io.github.zlemiesz.springemployeeservice.exception;
+
+/**
+ * All import workers are busy and the queue is full; the client should retry later.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public class ImportCapacityExceededException extends RuntimeException {
+
+    public ImportCapacityExceededException() {
+        super("Too many imports in progress, try again later");
+    }
+}
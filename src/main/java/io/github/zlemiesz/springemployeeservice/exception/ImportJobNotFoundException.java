@@ -0,0 +1,13 @@
+package io.github.zlemiesz.springemployeeservice.exception;
+
+import java.util.UUID;
+
+/**
+ * @author Zbigniew Lemiesz
+ */
+public class ImportJobNotFoundException extends RuntimeException {
+
+    public ImportJobNotFoundException(UUID id) {
+        super("No import job with id: " + id);
+    }
+}
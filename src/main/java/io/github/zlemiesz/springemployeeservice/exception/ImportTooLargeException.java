@@ -0,0 +1,11 @@
+package io.github.zlemiesz.springemployeeservice.exception;
+
+/**
+ * @author Zbigniew Lemiesz
+ */
+public class ImportTooLargeException extends RuntimeException {
+
+    public ImportTooLargeException(long maxBytes) {
+        super("Import file exceeds the limit of " + maxBytes + " bytes");
+    }
+}
@@ -0,0 +1,11 @@
+package io.github.zlemiesz.springemployeeservice.exception;
+
+/**
+ * @author Zbigniew Lemiesz
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.zlemiesz.springemployeeservice.exception;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * The password hashing pool is saturated. An {@link AuthenticationServiceException}, so a login
+ * attempt fails as "try again later" (503) rather than as bad credentials.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public class PasswordHashingBusyException extends AuthenticationServiceException {
+
+    public PasswordHashingBusyException() {
+        super("Too many password checks in progress, try again later");
+    }
+}
@@ -0,0 +1,13 @@
+package io.github.zlemiesz.springemployeeservice.exception;
+
+/**
+ * An {@code If-Match} precondition that cannot be satisfied (malformed, weak or for another resource).
+ *
+ * @author Zbigniew Lemiesz
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
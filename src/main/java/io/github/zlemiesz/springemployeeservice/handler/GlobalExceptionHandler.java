@@ -2,8 +2,15 @@ package io.github.zlemiesz.springemployeeservice.handler;
 
 import io.github.zlemiesz.springemployeeservice.exception.EmailAlreadyInUseException;
 import io.github.zlemiesz.springemployeeservice.exception.EmployeeNotFoundException;
+import io.github.zlemiesz.springemployeeservice.exception.ImportCapacityExceededException;
+import io.github.zlemiesz.springemployeeservice.exception.ImportJobNotFoundException;
+import io.github.zlemiesz.springemployeeservice.exception.ImportTooLargeException;
+import io.github.zlemiesz.springemployeeservice.exception.InvalidCursorException;
+import io.github.zlemiesz.springemployeeservice.exception.PasswordHashingBusyException;
+import io.github.zlemiesz.springemployeeservice.exception.PreconditionFailedException;
 import io.github.zlemiesz.springemployeeservice.exception.VersionMismatchException;
 import io.github.zlemiesz.springemployeeservice.handler.error.ValidationError;
+import io.github.zlemiesz.springemployeeservice.web.IfMatchVersionAdvice;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
@@ -18,7 +25,10 @@ import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -31,11 +41,14 @@ import tools.jackson.core.exc.StreamReadException;
 import tools.jackson.databind.exc.InvalidFormatException;
 import tools.jackson.databind.exc.UnrecognizedPropertyException;
 
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -48,6 +61,14 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
     private static final URI ABOUT_BLANK = URI.create("about:blank");
 
+    // matches ["fieldName"]
+    private static final Pattern BRACKET_FIELD = Pattern.compile("\\[\"([^\"]+)\"\\]");
+
+    // Jackson path accessors, resolved once per exception/reference class
+    private static final ClassValue<Optional<MethodHandle>> PATH_REFERENCE = accessor("getPathReference");
+    private static final ClassValue<Optional<MethodHandle>> FIELD_NAME = accessor("getFieldName");
+    private static final ClassValue<Optional<MethodHandle>> INDEX = accessor("getIndex");
+
     // ---------------- 404 ----------------
 
     @ExceptionHandler(EntityNotFoundException.class)
@@ -75,6 +96,19 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(pd);
     }
 
+    @ExceptionHandler(ImportJobNotFoundException.class)
+    public ResponseEntity<ProblemDetail> handleImportJobNotFound(ImportJobNotFoundException ex,
+                                                                 HttpServletRequest request) {
+        ProblemDetail pd = baseProblem(
+                HttpStatus.NOT_FOUND,
+                "Import Job Not Found",
+                safeMessage(ex),
+                request.getRequestURI()
+        );
+        addError(pd, "jobId", safeMessage(ex));
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(pd);
+    }
+
     // ---------------- 409 ----------------
 
     @ExceptionHandler(DataIntegrityViolationException.class)
@@ -119,6 +153,19 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
     @ExceptionHandler(VersionMismatchException.class)
     public ResponseEntity<ProblemDetail> handleVersionMismatch(VersionMismatchException ex,
                                                                HttpServletRequest request) {
+        // the version came from If-Match: a failed precondition is 412, not 409
+        if (ex.getRequestVersion() != null
+                && ex.getRequestVersion().equals(request.getAttribute(IfMatchVersionAdvice.IF_MATCH_VERSION_ATTRIBUTE))) {
+            ProblemDetail pd = baseProblem(
+                    HttpStatus.PRECONDITION_FAILED,
+                    "Precondition Failed",
+                    safeMessage(ex),
+                    request.getRequestURI()
+            );
+            addError(pd, HttpHeaders.IF_MATCH, safeMessage(ex));
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(pd);
+        }
+
         ProblemDetail pd = baseProblem(
                 HttpStatus.CONFLICT,
                 "Version conflict",
@@ -129,6 +176,21 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(pd);
     }
 
+    // ---------------- 412 ----------------
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ProblemDetail> handlePreconditionFailed(PreconditionFailedException ex,
+                                                                  HttpServletRequest request) {
+        ProblemDetail pd = baseProblem(
+                HttpStatus.PRECONDITION_FAILED,
+                "Precondition Failed",
+                safeMessage(ex),
+                request.getRequestURI()
+        );
+        addError(pd, HttpHeaders.IF_MATCH, safeMessage(ex));
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(pd);
+    }
+
     @ExceptionHandler(EmailAlreadyInUseException.class)
     public ResponseEntity<ProblemDetail> handleEmailAlreadyInUse(EmailAlreadyInUseException ex,
                                                                  HttpServletRequest request) {
@@ -143,6 +205,66 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(pd);
     }
 
+    // ---------------- 413 / 503: import limits, password hashing pool, connection limiter ----------------
+
+    @ExceptionHandler(ImportTooLargeException.class)
+    public ResponseEntity<ProblemDetail> handleImportTooLarge(ImportTooLargeException ex,
+                                                              HttpServletRequest request) {
+        ProblemDetail pd = baseProblem(
+                HttpStatus.CONTENT_TOO_LARGE,
+                "Import too large",
+                safeMessage(ex),
+                request.getRequestURI()
+        );
+        addError(pd, "body", safeMessage(ex));
+        return ResponseEntity.status(HttpStatus.CONTENT_TOO_LARGE).body(pd);
+    }
+
+    @ExceptionHandler(ImportCapacityExceededException.class)
+    public ResponseEntity<ProblemDetail> handleImportCapacityExceeded(ImportCapacityExceededException ex,
+                                                                      HttpServletRequest request) {
+        ProblemDetail pd = baseProblem(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                "Service Unavailable",
+                safeMessage(ex),
+                request.getRequestURI()
+        );
+        addError(pd, "import", safeMessage(ex));
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "60")
+                .body(pd);
+    }
+
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<ProblemDetail> handlePasswordHashingBusy(PasswordHashingBusyException ex,
+                                                                   HttpServletRequest request) {
+        ProblemDetail pd = baseProblem(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                "Service Unavailable",
+                safeMessage(ex),
+                request.getRequestURI()
+        );
+        addError(pd, "password", safeMessage(ex));
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(pd);
+    }
+
+    @ExceptionHandler({CannotCreateTransactionException.class, CannotGetJdbcConnectionException.class})
+    public ResponseEntity<ProblemDetail> handleNoConnection(RuntimeException ex, HttpServletRequest request) {
+        String message = "No database connection available, try again later";
+        ProblemDetail pd = baseProblem(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                "Service Unavailable",
+                message,
+                request.getRequestURI()
+        );
+        addError(pd, "database", message);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(pd);
+    }
+
     // ---------------- 400: @Valid (body validation) ----------------
 
     @Override
@@ -158,13 +280,17 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
                 pathOf(request)
         );
 
-        ex.getBindingResult()
-                .getFieldErrors()
-                .forEach(fe -> addError(
-                        pd,
-                        fe.getField(),
-                        fe.getDefaultMessage() != null ? fe.getDefaultMessage() : "Invalid value"
-                ));
+        List<FieldError> fieldErrors = ex.getBindingResult().getFieldErrors();
+        List<ValidationError> errors = new ArrayList<>(fieldErrors.size());
+        for (FieldError fe : fieldErrors) {
+            errors.add(new ValidationError(
+                    fe.getField(),
+                    fe.getDefaultMessage() != null ? fe.getDefaultMessage() : "Invalid value"
+            ));
+        }
+        if (!errors.isEmpty()) {
+            pd.setProperty("errors", errors);
+        }
 
         return ResponseEntity.badRequest().body(pd);
     }
@@ -182,15 +308,33 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
                 request.getRequestURI()
         );
 
-        ex.getConstraintViolations().forEach(v -> addError(
-                pd,
+        List<ValidationError> errors = new ArrayList<>(ex.getConstraintViolations().size());
+        ex.getConstraintViolations().forEach(v -> errors.add(new ValidationError(
                 v.getPropertyPath() != null ? v.getPropertyPath().toString() : "param",
                 v.getMessage() != null ? v.getMessage() : "Invalid value"
-        ));
+        )));
+        if (!errors.isEmpty()) {
+            pd.setProperty("errors", errors);
+        }
 
         return ResponseEntity.badRequest().body(pd);
     }
 
+    // ---------------- 400: invalid pagination cursor ----------------
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ProblemDetail> handleInvalidCursor(InvalidCursorException ex,
+                                                             HttpServletRequest request) {
+        ProblemDetail pd = baseProblem(
+                HttpStatus.BAD_REQUEST,
+                "Invalid cursor",
+                safeMessage(ex),
+                request.getRequestURI()
+        );
+        addError(pd, "after", safeMessage(ex));
+        return ResponseEntity.badRequest().body(pd);
+    }
+
     // ---------------- 400: missing query param ----------------
 
     @Override
@@ -368,39 +512,25 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
     }
 
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Appends one error. Almost every handler adds exactly one, which is stored as a single-element list;
+     * multi-error handlers build their list up front and set it directly.
+     */
     private void addError(ProblemDetail pd, String field, String message) {
-
-        Object existing = null;
+        ValidationError error = new ValidationError(field, message);
 
         // getProperties() can be null -> guard
         Map<String, Object> props = pd.getProperties();
-        if (props != null) {
-            existing = props.get("errors");
-        }
-
-        List<ValidationError> errors = new ArrayList<>();
-
-        if (existing instanceof List<?> list) {
-            for (Object o : list) {
-                if (o instanceof ValidationError ve) {
-                    errors.add(ve);
-                } else if (o instanceof Map<?, ?> m) {
-                    // fail-safe if any old Map-based errors slipped in
-                    Object f = m.get("field");
-                    Object msg = m.get("message");
-                    errors.add(new ValidationError(
-                            f != null ? f.toString() : "field",
-                            msg != null ? msg.toString() : "Invalid value"
-                    ));
-                }
-            }
+        Object existing = props != null ? props.get("errors") : null;
+
+        if (existing instanceof List<?> list && !list.isEmpty()) {
+            List<Object> errors = new ArrayList<>(list.size() + 1);
+            errors.addAll(list);
+            errors.add(error);
+            pd.setProperty("errors", errors);
+            return;
         }
-
-        errors.add(new ValidationError(field, message));
-
-        // This initializes properties and stores a MUTABLE list
-        pd.setProperty("errors", errors);
+        pd.setProperty("errors", List.of(error));
     }
 
     // --- Jackson helpers (unknown field, wrong type path) ---
@@ -422,8 +552,8 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         String path = extractPath(ex.getPath());
         if (!path.isBlank()) return path;
 
-        // 2) from getPathReference() if available (reflection)
-        String pathRef = invokeString(ex, "getPathReference"); // e.g. EmployeePutDto["version"]
+        // 2) from getPathReference() if available
+        String pathRef = invokeString(PATH_REFERENCE, ex); // e.g. EmployeePutDto["version"]
         if (pathRef != null) {
             String last = lastBracketField(pathRef);
             if (last != null) return last;
@@ -438,9 +568,8 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
     }
 
     private String lastBracketField(String text) {
-        // matches ["fieldName"] and returns the last occurrence
-        Pattern p = Pattern.compile("\\[\"([^\"]+)\"\\]");
-        Matcher m = p.matcher(text);
+        // returns the last ["fieldName"] occurrence
+        Matcher m = BRACKET_FIELD.matcher(text);
         String last = null;
         while (m.find()) last = m.group(1);
         return last;
@@ -460,34 +589,53 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
     private String refSegment(Object ref) {
         if (ref == null) return null;
 
-        String fieldName = invokeString(ref, "getFieldName");
+        String fieldName = invokeString(FIELD_NAME, ref);
         if (fieldName != null && !fieldName.isBlank()) return fieldName;
 
-        Integer idx = invokeInt(ref, "getIndex");
+        Integer idx = invokeInt(INDEX, ref);
         if (idx != null && idx >= 0) return "[" + idx + "]";
 
         return null;
     }
 
-    private String invokeString(Object target, String method) {
-        try {
-            Method m = target.getClass().getMethod(method);
-            Object val = m.invoke(target);
-            return val != null ? val.toString() : null;
-        } catch (Exception ignored) {
-            return null;
-        }
+    private String invokeString(ClassValue<Optional<MethodHandle>> accessor, Object target) {
+        Object val = invoke(accessor, target);
+        return val != null ? val.toString() : null;
     }
 
-    private Integer invokeInt(Object target, String method) {
+    private Integer invokeInt(ClassValue<Optional<MethodHandle>> accessor, Object target) {
+        Object val = invoke(accessor, target);
+        if (val instanceof Integer i) return i;
+        if (val instanceof Number n) return n.intValue();
+        return null;
+    }
+
+    private static Object invoke(ClassValue<Optional<MethodHandle>> accessor, Object target) {
+        MethodHandle handle = accessor.get(target.getClass()).orElse(null);
+        if (handle == null) return null;
         try {
-            Method m = target.getClass().getMethod(method);
-            Object val = m.invoke(target);
-            if (val instanceof Integer i) return i;
-            if (val instanceof Number n) return n.intValue();
-            return null;
-        } catch (Exception ignored) {
+            return (Object) handle.invokeExact(target);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable ignored) {
             return null;
         }
     }
+
+    /**
+     * Public no-arg getter {@code name} of a class as an {@code (Object)Object} handle, empty if it has none.
+     */
+    private static ClassValue<Optional<MethodHandle>> accessor(String name) {
+        return new ClassValue<>() {
+            @Override
+            protected Optional<MethodHandle> computeValue(Class<?> type) {
+                try {
+                    MethodHandle handle = MethodHandles.publicLookup().unreflect(type.getMethod(name));
+                    return Optional.of(handle.asType(MethodType.methodType(Object.class, Object.class)));
+                } catch (ReflectiveOperationException | RuntimeException e) {
+                    return Optional.empty();
+                }
+            }
+        };
+    }
 }
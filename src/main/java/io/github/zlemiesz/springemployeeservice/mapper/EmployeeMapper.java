@@ -1,28 +1,72 @@
 package io.github.zlemiesz.springemployeeservice.mapper;
 
 import io.github.zlemiesz.springemployeeservice.dto.EmployeeCreateDto;
+import io.github.zlemiesz.springemployeeservice.dto.EmployeePatchDto;
+import io.github.zlemiesz.springemployeeservice.dto.EmployeePutDto;
 import io.github.zlemiesz.springemployeeservice.dto.EmployeeResponseDto;
 import io.github.zlemiesz.springemployeeservice.model.Employee;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Component;
 
 /**
+ * Plain field-by-field mapping (no reflection). Same semantics as the former ModelMapper
+ * setup (STRICT matching, skip nulls): a {@code null} source value never overwrites the target.
+ *
  * @author Zbigniew Lemiesz
  */
 @Component
 public class EmployeeMapper {
-    private final ModelMapper mapper;
-
-    public EmployeeMapper(ModelMapper mapper){
-        this.mapper = mapper;
-    }
 
     public EmployeeResponseDto toResponse(Employee entity) {
-        return mapper.map(entity, EmployeeResponseDto.class);
+        if (entity == null) {
+            return null;
+        }
+        return new EmployeeResponseDto(
+                entity.getId(),
+                entity.getFirstName(),
+                entity.getLastName(),
+                entity.getEmail(),
+                entity.getVersion()
+        );
     }
 
     public Employee toEntity(EmployeeCreateDto dto) {
-        return mapper.map(dto, Employee.class);
+        if (dto == null) {
+            return null;
+        }
+        return new Employee(dto.getFirstName(), dto.getLastName(), dto.getEmail());
     }
 
+    /**
+     * PUT: copies every non-null field, including {@code version}.
+     */
+    public void updateEntity(EmployeePutDto dto, Employee entity) {
+        if (dto.getFirstName() != null) {
+            entity.setFirstName(dto.getFirstName());
+        }
+        if (dto.getLastName() != null) {
+            entity.setLastName(dto.getLastName());
+        }
+        if (dto.getEmail() != null) {
+            entity.setEmail(dto.getEmail());
+        }
+        if (dto.getVersion() != null) {
+            entity.setVersion(dto.getVersion());
+        }
+    }
+
+    /**
+     * PATCH: copies only the fields present in the request, trimmed. {@code version} is only
+     * used for the optimistic-lock check and is not copied.
+     */
+    public void patchEntity(EmployeePatchDto dto, Employee entity) {
+        if (dto.getFirstName() != null) {
+            entity.setFirstName(dto.getFirstName().trim());
+        }
+        if (dto.getLastName() != null) {
+            entity.setLastName(dto.getLastName().trim());
+        }
+        if (dto.getEmail() != null) {
+            entity.setEmail(dto.getEmail().trim());
+        }
+    }
 }
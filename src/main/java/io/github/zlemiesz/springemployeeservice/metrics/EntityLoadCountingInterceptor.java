@@ -0,0 +1,20 @@
+package io.github.zlemiesz.springemployeeservice.metrics;
+
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+/**
+ * Registered with {@code hibernate.session_factory.interceptor} (one shared, stateless instance):
+ * counts entity instances Hibernate loads into {@link RequestQueryCounter}. A lazy association fetched
+ * one row at a time shows up here and in the statement count together - the N+1 signature.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public class EntityLoadCountingInterceptor implements Interceptor {
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        RequestQueryCounter.entityLoaded();
+        return false;
+    }
+}
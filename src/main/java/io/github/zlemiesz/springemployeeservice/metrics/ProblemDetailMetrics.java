@@ -0,0 +1,71 @@
+package io.github.zlemiesz.springemployeeservice.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts every {@link ProblemDetail} the API answers with: {@code http.server.problems{status, title}}.
+ * Sees the bodies built by {@code GlobalExceptionHandler} on their way out; the security entry point
+ * and access-denied handler, which write their response directly, call {@link #record} themselves.
+ * <p>
+ * With {@code employee.metrics.enabled=false} (or no registry, as in MVC slice tests) it does nothing.
+ *
+ * @author Zbigniew Lemiesz
+ */
+@ControllerAdvice
+public class ProblemDetailMetrics implements ResponseBodyAdvice<Object> {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public ProblemDetailMetrics(ObjectProvider<MeterRegistry> meterRegistry,
+                                @Value("${employee.metrics.enabled:true}") boolean enabled) {
+        this.meterRegistry = enabled ? meterRegistry.getIfAvailable() : null;
+    }
+
+    public void record(ProblemDetail problem) {
+        if (meterRegistry == null) {
+            return;
+        }
+        String status = Integer.toString(problem.getStatus());
+        String title = problem.getTitle() != null ? problem.getTitle() : "none";
+
+        counters.computeIfAbsent(status + '|' + title, key -> Counter.builder("http.server.problems")
+                        .description("Problem Detail responses by status and title")
+                        .tag("status", status)
+                        .tag("title", title)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return meterRegistry != null;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        if (body instanceof ProblemDetail problem) {
+            record(problem);
+        }
+        return body;
+    }
+}
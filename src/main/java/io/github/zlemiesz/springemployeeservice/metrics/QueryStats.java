@@ -0,0 +1,18 @@
+package io.github.zlemiesz.springemployeeservice.metrics;
+
+/**
+ * Database work done while handling one request (see {@link RequestQueryCounter}).
+ *
+ * @param statements    JDBC statements and batches executed
+ * @param entities      entity instances Hibernate loaded (rows materialized as entities, collection elements included)
+ * @param executionNanos time spent inside JDBC execute calls
+ * @author Zbigniew Lemiesz
+ */
+public record QueryStats(int statements, int entities, long executionNanos) {
+
+    public static final QueryStats NONE = new QueryStats(0, 0, 0);
+
+    public long executionMillis() {
+        return executionNanos / 1_000_000;
+    }
+}
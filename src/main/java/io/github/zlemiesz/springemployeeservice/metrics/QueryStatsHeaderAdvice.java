@@ -0,0 +1,52 @@
+package io.github.zlemiesz.springemployeeservice.metrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Development aid, {@code employee.query-stats.headers=true}: adds {@code X-Query-Statements},
+ * {@code X-Query-Entities} and {@code X-Query-Time-Ms} to every response with a body, right before the
+ * body is written (later the headers may already be committed). Responses without a body get none.
+ *
+ * @author Zbigniew Lemiesz
+ */
+@ControllerAdvice
+public class QueryStatsHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String STATEMENTS_HEADER = "X-Query-Statements";
+    public static final String ENTITIES_HEADER = "X-Query-Entities";
+    public static final String TIME_HEADER = "X-Query-Time-Ms";
+
+    private final boolean enabled;
+
+    public QueryStatsHeaderAdvice(@Value("${employee.query-stats.headers:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return enabled;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        QueryStats stats = RequestQueryCounter.current();
+        HttpHeaders headers = response.getHeaders();
+        headers.set(STATEMENTS_HEADER, Integer.toString(stats.statements()));
+        headers.set(ENTITIES_HEADER, Integer.toString(stats.entities()));
+        headers.set(TIME_HEADER, Long.toString(stats.executionMillis()));
+        return body;
+    }
+}
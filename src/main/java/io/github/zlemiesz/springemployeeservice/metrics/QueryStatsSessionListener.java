@@ -0,0 +1,34 @@
+package io.github.zlemiesz.springemployeeservice.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Registered with {@code hibernate.session.events.auto}: Hibernate creates one per session and reports
+ * every JDBC statement and batch execution, which are counted and timed into {@link RequestQueryCounter}.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public class QueryStatsSessionListener implements SessionEventListener {
+
+    private long executeStarted;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStarted = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestQueryCounter.statementExecuted(System.nanoTime() - executeStarted);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executeStarted = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestQueryCounter.statementExecuted(System.nanoTime() - executeStarted);
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.zlemiesz.springemployeeservice.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the database work of every request ({@link RequestQueryCounter}) and, when a registry is given,
+ * records it with the same {@code method}/{@code uri} tags as {@code http.server.requests}, so an N+1
+ * shows up next to the latency:
+ * {@code http.server.requests.db.statements}, {@code http.server.requests.db.entities},
+ * {@code http.server.requests.db.time}.
+ * <p>
+ * Without a registry it only counts, for {@link QueryStatsHeaderAdvice}.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    public RequestMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        RequestQueryCounter.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            QueryStats stats = RequestQueryCounter.stop();
+            if (meterRegistry != null) {
+                record(request, stats);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Tags tags = Tags.of("method", request.getMethod(), "uri", pattern != null ? pattern.toString() : UNKNOWN_URI);
+
+        DistributionSummary.builder("http.server.requests.db.statements")
+                .description("SQL statements executed per HTTP request")
+                .baseUnit("statements")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.statements());
+        DistributionSummary.builder("http.server.requests.db.entities")
+                .description("Entities loaded per HTTP request")
+                .baseUnit("entities")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.entities());
+        Timer.builder("http.server.requests.db.time")
+                .description("Time spent executing SQL per HTTP request")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.executionNanos(), TimeUnit.NANOSECONDS);
+    }
+}
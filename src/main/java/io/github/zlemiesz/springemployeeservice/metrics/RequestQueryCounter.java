@@ -0,0 +1,74 @@
+package io.github.zlemiesz.springemployeeservice.metrics;
+
+/**
+ * Per-thread tally of the database work of the current request, from {@link #start()} to {@link #stop()}.
+ * Started by {@link RequestMetricsFilter} (and by tests, MockMvc runs on the calling thread), fed by
+ * {@link QueryStatsSessionListener} and {@link EntityLoadCountingInterceptor}. Outside a counted request
+ * every hook is a single {@code ThreadLocal} read.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public final class RequestQueryCounter {
+
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    private RequestQueryCounter() {
+    }
+
+    /**
+     * Starts counting, or joins the tally already running on this thread (a test wrapping a MockMvc call
+     * that passes through {@link RequestMetricsFilter}); only the outermost {@link #stop()} ends it.
+     */
+    public static void start() {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.nesting++;
+        } else {
+            CURRENT.set(new Counts());
+        }
+    }
+
+    /**
+     * @return the tally since {@link #start()}, or {@link QueryStats#NONE} when counting was not started
+     */
+    public static QueryStats stop() {
+        QueryStats stats = current();
+        Counts counts = CURRENT.get();
+        if (counts != null && counts.nesting > 0) {
+            counts.nesting--;
+        } else {
+            CURRENT.remove();
+        }
+        return stats;
+    }
+
+    /**
+     * The tally so far, counting continues.
+     */
+    public static QueryStats current() {
+        Counts counts = CURRENT.get();
+        return counts != null ? new QueryStats(counts.statements, counts.entities, counts.executionNanos) : QueryStats.NONE;
+    }
+
+    static void statementExecuted(long nanos) {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.statements++;
+            counts.executionNanos += nanos;
+        }
+    }
+
+    static void entityLoaded() {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.entities++;
+        }
+    }
+
+    private static final class Counts {
+        private int statements;
+        private int entities;
+        private long executionNanos;
+        private int nesting;
+    }
+}
@@ -11,8 +11,17 @@ import jakarta.persistence.*;
 @Table(name = "employees", uniqueConstraints = @UniqueConstraint(columnNames = "email"))
 public class Employee {
 
+    // pooled table generator (V7): IDENTITY would make Hibernate insert row by row to read back the id
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "employee_id")
+    @TableGenerator(
+            name = "employee_id",
+            table = "id_generators",
+            pkColumnName = "name",
+            valueColumnName = "next_val",
+            pkColumnValue = "employees",
+            allocationSize = 50
+    )
     private Long id;
 
     @Column(name="first_name", nullable = false)
@@ -27,6 +36,13 @@ public class Employee {
     @Version
     private Long version;
 
+    // generated columns (V6), read-only and used by indexed search only
+    @Column(name = "first_name_lc", insertable = false, updatable = false)
+    private String firstNameLc;
+
+    @Column(name = "last_name_lc", insertable = false, updatable = false)
+    private String lastNameLc;
+
 
     @PrePersist
     @PreUpdate
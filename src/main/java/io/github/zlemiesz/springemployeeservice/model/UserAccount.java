@@ -1,5 +1,6 @@
 package io.github.zlemiesz.springemployeeservice.model;
 
+import io.github.zlemiesz.springemployeeservice.security.UserAccountChangeListener;
 import jakarta.persistence.*;
 
 import java.util.HashSet;
@@ -10,6 +11,7 @@ import java.util.Set;
  */
 
 @Entity
+@EntityListeners(UserAccountChangeListener.class)
 @Table(name = "user_accounts",
         uniqueConstraints = @UniqueConstraint(columnNames = "employee_id"))
 public class UserAccount {
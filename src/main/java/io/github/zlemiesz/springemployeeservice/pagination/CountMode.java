@@ -0,0 +1,15 @@
+package io.github.zlemiesz.springemployeeservice.pagination;
+
+/**
+ * How {@code GET /employee} computes {@code totalElements}.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public enum CountMode {
+    /** Runs {@code COUNT(*)} with the same filters (default). */
+    EXACT,
+    /** No count query; only {@code last} is known (limit + 1 fetch). */
+    NONE,
+    /** Table statistics or a periodically refreshed cached count. */
+    ESTIMATED
+}
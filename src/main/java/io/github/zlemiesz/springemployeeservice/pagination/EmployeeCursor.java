@@ -0,0 +1,68 @@
+package io.github.zlemiesz.springemployeeservice.pagination;
+
+import io.github.zlemiesz.springemployeeservice.dto.EmployeeResponseDto;
+import io.github.zlemiesz.springemployeeservice.exception.InvalidCursorException;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of the last row returned by a keyset page. Serialized as an opaque,
+ * URL-safe token: {@code v1|sortProperty|direction|id|value}.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public record EmployeeCursor(EmployeeKeyset keyset, long id, String value) {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    public static EmployeeCursor after(EmployeeResponseDto last, EmployeeKeyset keyset) {
+        return new EmployeeCursor(keyset, last.getId(), keyset.sortKey().valueOf(last));
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR,
+                VERSION,
+                keyset.sortKey().property(),
+                keyset.direction().name(),
+                Long.toString(id),
+                value != null ? value : "");
+
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static EmployeeCursor decode(String token) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Cursor is not valid");
+        }
+
+        // value is the last part and may itself contain the separator
+        String[] parts = raw.split("\\|", 5);
+        if (parts.length != 5 || !VERSION.equals(parts[0])) {
+            throw new InvalidCursorException("Cursor is not valid");
+        }
+
+        EmployeeSortKey sortKey = EmployeeSortKey.fromProperty(parts[1]);
+        Sort.Direction direction = Sort.Direction.fromOptionalString(parts[2]).orElse(null);
+        if (sortKey == null || direction == null) {
+            throw new InvalidCursorException("Cursor is not valid");
+        }
+
+        long id;
+        try {
+            id = Long.parseLong(parts[3]);
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException("Cursor is not valid");
+        }
+
+        String value = sortKey == EmployeeSortKey.ID ? null : parts[4];
+        return new EmployeeCursor(new EmployeeKeyset(sortKey, direction), id, value);
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.zlemiesz.springemployeeservice.pagination;
+
+import io.github.zlemiesz.springemployeeservice.exception.InvalidCursorException;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+/**
+ * Sort order used by keyset pagination: one sort key plus {@code id} as a tie-breaker,
+ * both in the same direction.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public record EmployeeKeyset(EmployeeSortKey sortKey, Sort.Direction direction) {
+
+    public static EmployeeKeyset from(Sort sort) {
+        List<Sort.Order> orders = sort.stream()
+                .filter(o -> !o.getProperty().equals("id"))
+                .toList();
+
+        if (orders.isEmpty()) {
+            Sort.Order idOrder = sort.getOrderFor("id");
+            return new EmployeeKeyset(EmployeeSortKey.ID,
+                    idOrder != null ? idOrder.getDirection() : Sort.Direction.ASC);
+        }
+        if (orders.size() > 1) {
+            throw new InvalidCursorException("Cursor pagination supports a single sort property");
+        }
+
+        Sort.Order order = orders.getFirst();
+        EmployeeSortKey key = EmployeeSortKey.fromProperty(order.getProperty());
+        if (key == null) {
+            throw new InvalidCursorException("Unsupported sort property: " + order.getProperty());
+        }
+        return new EmployeeKeyset(key, order.getDirection());
+    }
+
+    public Sort sort() {
+        Sort byId = Sort.by(direction, "id");
+        return sortKey == EmployeeSortKey.ID ? byId : Sort.by(direction, sortKey.property()).and(byId);
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.zlemiesz.springemployeeservice.pagination;
+
+import io.github.zlemiesz.springemployeeservice.dto.EmployeeResponseDto;
+
+import java.util.function.Function;
+
+/**
+ * Sort properties that can be used with keyset (cursor) pagination.
+ * Every key is backed by an index ending with {@code id}, see V5 migration.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public enum EmployeeSortKey {
+
+    ID("id", dto -> null),
+    FIRST_NAME("firstName", EmployeeResponseDto::getFirstName),
+    LAST_NAME("lastName", EmployeeResponseDto::getLastName),
+    EMAIL("email", EmployeeResponseDto::getEmail);
+
+    private final String property;
+    private final Function<EmployeeResponseDto, String> extractor;
+
+    EmployeeSortKey(String property, Function<EmployeeResponseDto, String> extractor) {
+        this.property = property;
+        this.extractor = extractor;
+    }
+
+    public String property() {
+        return property;
+    }
+
+    public String valueOf(EmployeeResponseDto dto) {
+        return extractor.apply(dto);
+    }
+
+    public static EmployeeSortKey fromProperty(String property) {
+        for (EmployeeSortKey key : values()) {
+            if (key.property.equals(property)) {
+                return key;
+            }
+        }
+        return null;
+    }
+}
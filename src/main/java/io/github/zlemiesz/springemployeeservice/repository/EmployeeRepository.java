@@ -3,14 +3,42 @@ package io.github.zlemiesz.springemployeeservice.repository;
 import io.github.zlemiesz.springemployeeservice.model.Employee;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * @author Zbigniew Lemiesz
  */
-public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSpecificationExecutor<Employee> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSpecificationExecutor<Employee>,
+        EmployeeRepositoryCustom {
     Optional<Employee> findByEmail(String email);
 
     boolean existsByEmail(String newEmail);
+
+    /**
+     * Set-wise uniqueness check for batch writes: one query for the whole batch.
+     */
+    List<EmailOwner> findByEmailIn(Collection<String> emails);
+
+    @Query("select e.version from Employee e where e.id = :id")
+    Optional<Long> findVersionById(Long id);
+
+    /**
+     * Row count estimate from InnoDB table statistics (no table scan, may be off by a few percent).
+     */
+    @Query(value = """
+            select cast(table_rows as signed)
+            from information_schema.tables
+            where table_schema = database() and table_name = 'employees'
+            """, nativeQuery = true)
+    Long estimateRowCount();
+
+    interface EmailOwner {
+        Long getId();
+
+        String getEmail();
+    }
 }
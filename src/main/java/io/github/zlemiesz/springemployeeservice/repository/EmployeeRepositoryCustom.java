@@ -0,0 +1,37 @@
+package io.github.zlemiesz.springemployeeservice.repository;
+
+import io.github.zlemiesz.springemployeeservice.dto.EmployeeResponseDto;
+import io.github.zlemiesz.springemployeeservice.model.Employee;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Read paths that project straight into {@link EmployeeResponseDto} with a constructor expression:
+ * no managed entities, no dirty-checking snapshots and no mapper in between.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public interface EmployeeRepositoryCustom {
+
+    Page<EmployeeResponseDto> findResponses(Specification<Employee> spec, Pageable pageable);
+
+    /**
+     * Like {@link #findResponses(Specification, Pageable)} but without the {@code COUNT(*)} query:
+     * fetches {@code size + 1} rows and derives {@link Slice#hasNext()} from the extra row.
+     */
+    Slice<EmployeeResponseDto> findResponseSlice(Specification<Employee> spec, Pageable pageable);
+
+    List<EmployeeResponseDto> findResponses(Specification<Employee> spec, Sort sort, int limit);
+
+    /**
+     * Forward-only stream over all matching rows for exports. The JDBC driver streams the result set
+     * row by row, so memory stays constant; must be consumed inside a transaction and closed.
+     */
+    Stream<EmployeeResponseDto> streamResponses(Specification<Employee> spec, Sort sort);
+}
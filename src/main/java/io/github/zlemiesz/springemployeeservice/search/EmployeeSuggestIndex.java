@@ -0,0 +1,311 @@
+package io.github.zlemiesz.springemployeeservice.search;
+
+import io.github.zlemiesz.springemployeeservice.datasource.ReadRouting;
+import io.github.zlemiesz.springemployeeservice.dto.EmployeeResponseDto;
+import io.github.zlemiesz.springemployeeservice.dto.EmployeeSuggestionDto;
+import io.github.zlemiesz.springemployeeservice.event.EmployeeChangedEvent;
+import io.github.zlemiesz.springemployeeservice.model.Employee;
+import io.github.zlemiesz.springemployeeservice.pagination.EmployeeCursor;
+import io.github.zlemiesz.springemployeeservice.pagination.EmployeeKeyset;
+import io.github.zlemiesz.springemployeeservice.pagination.EmployeeSortKey;
+import io.github.zlemiesz.springemployeeservice.repository.EmployeeRepository;
+import io.github.zlemiesz.springemployeeservice.specification.EmployeeSpecifications;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory type-ahead index over employee names and emails.
+ * <p>
+ * Every searchable term (first name, last name, email, "first last", "last first") is lower-cased,
+ * prefixed with two anchor characters and split into trigrams, so a prefix query of any length
+ * maps to a set of trigrams. Each trigram points to a sorted {@code long[]} of employee ids;
+ * a query intersects the posting lists and verifies the prefix on the few remaining candidates.
+ * <p>
+ * Built at startup from {@link EmployeeRepository} and kept current by {@link EmployeeChangedEvent}.
+ * The server takes writes while the build runs, so a batch may carry a row older than what an event has
+ * already indexed: entries keep their {@code version} and an older upsert is ignored, and ids deleted
+ * during the build are remembered until it ends so that a batch cannot add them back.
+ * Enabled with {@code employee.suggest.enabled=true}.
+ *
+ * @author Zbigniew Lemiesz
+ */
+@Component
+@ConditionalOnProperty(name = "employee.suggest.enabled", havingValue = "true")
+public class EmployeeSuggestIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeSuggestIndex.class);
+
+    private static final char ANCHOR = '\u0002';
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private static final Comparator<EmployeeSuggestionDto> BY_NAME =
+            Comparator.comparing(EmployeeSuggestionDto::lastName, String.CASE_INSENSITIVE_ORDER)
+                    .thenComparing(EmployeeSuggestionDto::firstName, String.CASE_INSENSITIVE_ORDER)
+                    .thenComparingLong(EmployeeSuggestionDto::id);
+
+    private final EmployeeRepository employeeRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<Long, LongPostings> postings = new HashMap<>();
+    private final Set<Long> deletedWhileBuilding = new HashSet<>();
+    private boolean building;
+
+    public EmployeeSuggestIndex(EmployeeRepository employeeRepository) {
+        this.employeeRepository = employeeRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long started = System.nanoTime();
+        EmployeeKeyset byId = new EmployeeKeyset(EmployeeSortKey.ID, Sort.Direction.ASC);
+        EmployeeCursor cursor = null;
+        int loaded = 0;
+
+        setBuilding(true);
+        try {
+            List<Employee> batch;
+            do {
+                EmployeeCursor after = cursor;
+                // from the primary: a lagging replica would only widen the window the versions have to cover
+                batch = ReadRouting.onPrimary(() -> employeeRepository.findBy(
+                        EmployeeSpecifications.after(after),
+                        query -> query.sortBy(byId.sort()).limit(LOAD_BATCH_SIZE).all()
+                ));
+                for (Employee employee : batch) {
+                    upsert(new EmployeeSuggestionDto(employee.getId(), employee.getFirstName(),
+                            employee.getLastName(), employee.getEmail()), employee.getVersion());
+                }
+                if (!batch.isEmpty()) {
+                    cursor = new EmployeeCursor(byId, batch.getLast().getId(), null);
+                }
+                loaded += batch.size();
+            } while (batch.size() == LOAD_BATCH_SIZE);
+        } finally {
+            setBuilding(false);
+        }
+
+        log.info("Employee suggest index built: {} employees, {} trigrams in {} ms",
+                loaded, postings.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (event.isDeleted()) {
+            remove(event.id());
+            return;
+        }
+        EmployeeResponseDto current = event.current();
+        upsert(new EmployeeSuggestionDto(
+                        current.getId(), current.getFirstName(), current.getLastName(), current.getEmail()),
+                current.getVersion());
+    }
+
+    /**
+     * Indexes {@code employee} unless the index already holds a newer version of it, or it was deleted
+     * while the startup build runs.
+     */
+    public void upsert(EmployeeSuggestionDto employee, Long version) {
+        Entry entry = Entry.of(employee, version);
+
+        lock.writeLock().lock();
+        try {
+            if (deletedWhileBuilding.contains(entry.id())) {
+                return;
+            }
+            Entry previous = entries.get(entry.id());
+            if (previous != null) {
+                if (isOlder(version, previous.version())) {
+                    return;
+                }
+                unindex(previous);
+            }
+            entries.put(entry.id(), entry);
+            for (long gram : entry.grams()) {
+                postings.computeIfAbsent(gram, g -> new LongPostings()).add(entry.id());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            if (building) {
+                deletedWhileBuilding.add(id);
+            }
+            Entry previous = entries.remove(id);
+            if (previous != null) {
+                unindex(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Employees having a term (first name, last name, full name or email) that starts with {@code query},
+     * case-insensitive, ordered by last name then first name.
+     */
+    public List<EmployeeSuggestionDto> suggest(String query, int limit) {
+        String prefix = query == null ? "" : query.trim().toLowerCase();
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        long[] grams = trigrams(prefix);
+
+        // bounded max-heap: keeps the alphabetically first `limit` matches, whatever the id order
+        PriorityQueue<EmployeeSuggestionDto> top = new PriorityQueue<>(limit + 1, BY_NAME.reversed());
+
+        lock.readLock().lock();
+        try {
+            LongPostings[] lists = new LongPostings[grams.length];
+            for (int i = 0; i < grams.length; i++) {
+                lists[i] = postings.get(grams[i]);
+                if (lists[i] == null) {
+                    return List.of();
+                }
+            }
+            Arrays.sort(lists, Comparator.comparingInt(LongPostings::size));
+
+            LongPostings smallest = lists[0];
+            for (int i = 0; i < smallest.size(); i++) {
+                long id = smallest.get(i);
+                if (containedInAll(lists, id)) {
+                    Entry entry = entries.get(id);
+                    if (entry != null && entry.hasTermStartingWith(prefix)) {
+                        top.offer(entry.employee());
+                        if (top.size() > limit) {
+                            top.poll();
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<EmployeeSuggestionDto> result = new ArrayList<>(top);
+        result.sort(BY_NAME);
+        return result;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void setBuilding(boolean building) {
+        lock.writeLock().lock();
+        try {
+            this.building = building;
+            // ids are never reused, the tombstones are only needed against the build's own batches
+            deletedWhileBuilding.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static boolean isOlder(Long candidate, Long indexed) {
+        return indexed != null && (candidate == null || candidate < indexed);
+    }
+
+    private void unindex(Entry entry) {
+        for (long gram : entry.grams()) {
+            LongPostings list = postings.get(gram);
+            if (list != null) {
+                list.remove(entry.id());
+                if (list.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static boolean containedInAll(LongPostings[] lists, long id) {
+        for (int i = 1; i < lists.length; i++) {
+            if (!lists[i].contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long[] trigrams(String term) {
+        String anchored = "" + ANCHOR + ANCHOR + term;
+        long[] grams = new long[term.length()];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = ((long) anchored.charAt(i) << 32)
+                    | ((long) anchored.charAt(i + 1) << 16)
+                    | anchored.charAt(i + 2);
+        }
+        return grams;
+    }
+
+    private record Entry(long id, Long version, EmployeeSuggestionDto employee, String[] terms, long[] grams) {
+
+        static Entry of(EmployeeSuggestionDto employee, Long version) {
+            String first = lower(employee.firstName());
+            String last = lower(employee.lastName());
+            String email = lower(employee.email());
+
+            Set<String> terms = new LinkedHashSet<>();
+            for (String term : new String[]{first, last, email, first + " " + last, last + " " + first}) {
+                if (!term.isBlank()) {
+                    terms.add(term.trim());
+                }
+            }
+
+            Set<Long> grams = new LinkedHashSet<>();
+            for (String term : terms) {
+                for (long gram : trigrams(term)) {
+                    grams.add(gram);
+                }
+            }
+
+            return new Entry(
+                    employee.id(),
+                    version,
+                    employee,
+                    terms.toArray(new String[0]),
+                    grams.stream().mapToLong(Long::longValue).toArray()
+            );
+        }
+
+        boolean hasTermStartingWith(String prefix) {
+            for (String term : terms) {
+                if (term.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static String lower(String value) {
+            return value == null ? "" : value.trim().toLowerCase();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.zlemiesz.springemployeeservice.search;
+
+import java.util.Arrays;
+
+/**
+ * Sorted, duplicate-free list of employee ids backed by a primitive array.
+ * Not thread-safe, guarded by {@link EmployeeSuggestIndex}.
+ *
+ * @author Zbigniew Lemiesz
+ */
+final class LongPostings {
+
+    private long[] ids = new long[4];
+    private int size;
+
+    void add(long id) {
+        // ids usually arrive in ascending order (initial load), so check the tail first
+        if (size == 0 || ids[size - 1] < id) {
+            ensureCapacity();
+            ids[size++] = id;
+            return;
+        }
+
+        int i = Arrays.binarySearch(ids, 0, size, id);
+        if (i >= 0) {
+            return;
+        }
+        i = -i - 1;
+        ensureCapacity();
+        System.arraycopy(ids, i, ids, i + 1, size - i);
+        ids[i] = id;
+        size++;
+    }
+
+    void remove(long id) {
+        int i = Arrays.binarySearch(ids, 0, size, id);
+        if (i < 0) {
+            return;
+        }
+        System.arraycopy(ids, i + 1, ids, i, size - i - 1);
+        size--;
+    }
+
+    boolean contains(long id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    long get(int index) {
+        return ids[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void ensureCapacity() {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length + (ids.length >> 1) + 1);
+        }
+    }
+}
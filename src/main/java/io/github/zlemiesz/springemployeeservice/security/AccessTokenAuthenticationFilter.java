@@ -0,0 +1,73 @@
+package io.github.zlemiesz.springemployeeservice.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Authenticates {@code Authorization: Bearer <token>} requests from the token alone
+ * (see {@link AccessTokenService}). Requests without the header pass through untouched;
+ * an invalid or expired token is answered with 401 right away.
+ * <p>
+ * Like {@code BearerTokenAuthenticationFilter}, the context is also saved to the given repository
+ * (a {@code RequestAttributeSecurityContextRepository}): this filter does not run again on the async
+ * dispatch of {@code GET /employee/export}, which must still be authenticated.
+ * <p>
+ * Registered by {@code SecurityConfig} only in token mode, deliberately not a {@code @Component}.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public class AccessTokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = AccessTokenService.TOKEN_TYPE + " ";
+
+    private final AccessTokenService accessTokenService;
+    private final AuthenticationEntryPoint entryPoint;
+    private final SecurityContextRepository securityContextRepository;
+
+    public AccessTokenAuthenticationFilter(AccessTokenService accessTokenService,
+                                           AuthenticationEntryPoint entryPoint,
+                                           SecurityContextRepository securityContextRepository) {
+        this.accessTokenService = accessTokenService;
+        this.entryPoint = entryPoint;
+        this.securityContextRepository = securityContextRepository;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        UserPrincipal principal = accessTokenService.verify(header.substring(BEARER_PREFIX.length()).trim());
+        if (principal == null) {
+            SecurityContextHolder.clearContext();
+            entryPoint.commence(request, response, new BadCredentialsException("Invalid or expired access token"));
+            return;
+        }
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+        SecurityContextHolder.setContext(context);
+        securityContextRepository.saveContext(context, request, response);
+
+        chain.doFilter(request, response);
+    }
+}
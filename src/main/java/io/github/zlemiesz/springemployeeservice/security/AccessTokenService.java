@@ -0,0 +1,133 @@
+package io.github.zlemiesz.springemployeeservice.security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Issues and verifies the stateless access tokens used with {@code security.auth.mode=token}.
+ * <p>
+ * Format: {@code base64url(payload).base64url(HMAC-SHA256(payload))}, where the payload is
+ * {@code userAccountId|expiresAtEpochSecond|ROLE_A,ROLE_B|email} (email last, so it may contain any character).
+ * Verification needs only the key: no database, no session store. A token stays valid until it expires,
+ * also after a password change or account disable, so keep {@code security.token.ttl} short.
+ *
+ * @author Zbigniew Lemiesz
+ */
+@Component
+@ConditionalOnProperty(name = "security.auth.mode", havingValue = "token")
+public class AccessTokenService {
+
+    public static final String TOKEN_TYPE = "Bearer";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_KEY_BYTES = 32;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+    private final Clock clock;
+
+    @Autowired
+    public AccessTokenService(@Value("${security.token.secret}") String secret,
+                              @Value("${security.token.ttl:15m}") Duration ttl) {
+        this(Base64.getDecoder().decode(secret), ttl, Clock.systemUTC());
+    }
+
+    AccessTokenService(byte[] key, Duration ttl, Clock clock) {
+        if (key.length < MIN_KEY_BYTES) {
+            throw new IllegalStateException(
+                    "security.token.secret must be a base64 encoded key of at least " + MIN_KEY_BYTES + " bytes");
+        }
+        this.key = new SecretKeySpec(key, ALGORITHM);
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    public Duration ttl() {
+        return ttl;
+    }
+
+    public String issue(UserPrincipal principal) {
+        long expiresAt = clock.instant().plus(ttl).getEpochSecond();
+
+        StringBuilder authorities = new StringBuilder();
+        for (GrantedAuthority authority : principal.getAuthorities()) {
+            if (!authorities.isEmpty()) {
+                authorities.append(',');
+            }
+            authorities.append(authority.getAuthority());
+        }
+
+        String payload = principal.getUserAccountId() + "|" + expiresAt + "|" + authorities + "|" + principal.getEmail();
+        String encodedPayload = ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+
+        return encodedPayload + "." + ENCODER.encodeToString(sign(encodedPayload));
+    }
+
+    /**
+     * @return the principal carried by the token (without a password), or {@code null} when the token
+     * is malformed, has a wrong signature or has expired
+     */
+    public UserPrincipal verify(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot != token.lastIndexOf('.')) {
+            return null;
+        }
+        String encodedPayload = token.substring(0, dot);
+
+        try {
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(signature, sign(encodedPayload))) {
+                return null;
+            }
+
+            String[] parts = new String(DECODER.decode(encodedPayload), StandardCharsets.UTF_8).split("\\|", 4);
+            if (parts.length != 4) {
+                return null;
+            }
+            if (Long.parseLong(parts[1]) <= clock.instant().getEpochSecond()) {
+                return null;
+            }
+
+            List<SimpleGrantedAuthority> authorities = new ArrayList<>();
+            if (!parts[2].isEmpty()) {
+                for (String authority : parts[2].split(",")) {
+                    authorities.add(new SimpleGrantedAuthority(authority));
+                }
+            }
+
+            return new UserPrincipal(Long.valueOf(parts[0]), parts[3], null, true, authorities);
+        } catch (IllegalArgumentException e) {
+            // bad base64 or number
+            return null;
+        }
+    }
+
+    private byte[] sign(String encodedPayload) {
+        try {
+            // Mac is not thread-safe; a fresh instance costs far less than the servlet round trip
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(encodedPayload.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to sign access token", e);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package io.github.zlemiesz.springemployeeservice.security;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Node-local {@link LoginRateLimitStore}.
+ * <p>
+ * Keys are spread over lock stripes, each an access-ordered map guarded by its own lock, so concurrent
+ * logins for different keys rarely contend. Memory is bounded: a stripe holds at most
+ * {@code maxKeys / stripes} buckets and drops the least recently used one beyond that; buckets that have
+ * refilled completely are equivalent to no bucket and are evicted from the idle end on every access.
+ * <p>
+ * The bound is also a weakness: a client cycling through more random emails than fit in a stripe pushes
+ * out the partly drained bucket of the account it is guessing for, which then starts full again. Only
+ * the per-address bucket holds such a client back, so keep {@code maxKeys} well above the number of
+ * emails tried per window, or use a shared store.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public class InMemoryLoginRateLimitStore implements LoginRateLimitStore {
+
+    private final Stripe[] stripes;
+    private final LongSupplier nanoTime;
+
+    public InMemoryLoginRateLimitStore(int stripes, int maxKeys) {
+        this(stripes, maxKeys, System::nanoTime);
+    }
+
+    InMemoryLoginRateLimitStore(int stripes, int maxKeys, LongSupplier nanoTime) {
+        int count = 1;
+        while (count < stripes) {
+            count <<= 1;
+        }
+        int keysPerStripe = Math.max(1, (maxKeys + count - 1) / count);
+
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            this.stripes[i] = new Stripe(keysPerStripe);
+        }
+        this.nanoTime = nanoTime;
+    }
+
+    @Override
+    public Duration tryConsume(String key, LoginRateLimit limit) {
+        long now = nanoTime.getAsLong();
+        Stripe stripe = stripeFor(key);
+
+        stripe.lock.lock();
+        try {
+            stripe.evictRefilled(now);
+
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(limit.capacity(), now);
+                stripe.buckets.put(key, bucket);
+            } else {
+                bucket.refill(now, limit);
+            }
+            return bucket.take(now, limit);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public void reset(String key) {
+        Stripe stripe = stripeFor(key);
+
+        stripe.lock.lock();
+        try {
+            stripe.buckets.remove(key);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Number of tracked keys.
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.buckets.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripeFor(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    private static final class Stripe {
+
+        final ReentrantLock lock = new ReentrantLock();
+        final LinkedHashMap<String, Bucket> buckets;
+
+        Stripe(int maxKeys) {
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    return size() > maxKeys;
+                }
+            };
+        }
+
+        void evictRefilled(long now) {
+            Iterator<Bucket> idle = buckets.values().iterator();
+            while (idle.hasNext() && now - idle.next().fullAt >= 0) {
+                idle.remove();
+            }
+        }
+    }
+
+    private static final class Bucket {
+
+        double tokens;
+        long updated;
+        long fullAt;
+
+        Bucket(int capacity, long now) {
+            this.tokens = capacity;
+            this.updated = now;
+            this.fullAt = now;
+        }
+
+        void refill(long now, LoginRateLimit limit) {
+            tokens = Math.min(limit.capacity(), tokens + (double) (now - updated) / limit.nanosPerToken());
+            updated = now;
+        }
+
+        Duration take(long now, LoginRateLimit limit) {
+            long nanosPerToken = limit.nanosPerToken();
+            if (tokens >= 1) {
+                tokens -= 1;
+                fullAt = now + (long) ((limit.capacity() - tokens) * nanosPerToken);
+                return Duration.ZERO;
+            }
+            return Duration.ofNanos((long) Math.ceil((1 - tokens) * nanosPerToken));
+        }
+    }
+}
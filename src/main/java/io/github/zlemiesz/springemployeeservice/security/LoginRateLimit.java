@@ -0,0 +1,25 @@
+package io.github.zlemiesz.springemployeeservice.security;
+
+import java.time.Duration;
+
+/**
+ * Token bucket: up to {@code capacity} attempts at once, refilled continuously so that an empty
+ * bucket is full again after {@code window}.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public record LoginRateLimit(int capacity, Duration window) {
+
+    public LoginRateLimit {
+        if (capacity < 1 || window == null || window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("Rate limit needs capacity >= 1 and a positive window");
+        }
+    }
+
+    /**
+     * Time it takes to refill one token.
+     */
+    public long nanosPerToken() {
+        return Math.max(1, window.toNanos() / capacity);
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.zlemiesz.springemployeeservice.security;
+
+import io.github.zlemiesz.springemployeeservice.metrics.ProblemDetailMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Applies {@link LoginRateLimiter} to {@code POST <loginPath>} ahead of the form-login filter:
+ * a throttled attempt is answered with 429 and {@code Retry-After} without touching the database,
+ * a successful one (any status below 400) resets the email bucket. Like the 401/403 handlers, the 429
+ * is written directly and counted through {@link ProblemDetailMetrics#record}.
+ * <p>
+ * The client address is {@code request.getRemoteAddr()}; behind a proxy enable
+ * {@code server.forward-headers-strategy} so that it is the real client.
+ * Registered by {@code SecurityConfig}, deliberately not a {@code @Component}.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+
+    private final LoginRateLimiter limiter;
+    private final String loginPath;
+    private final String usernameParameter;
+    private final StaticProblemResponse tooManyAttempts;
+    private final ProblemDetailMetrics problemDetailMetrics;
+
+    public LoginRateLimitFilter(LoginRateLimiter limiter,
+                                String loginPath,
+                                String usernameParameter,
+                                ObjectMapper objectMapper,
+                                ProblemDetailMetrics problemDetailMetrics) {
+        this.limiter = limiter;
+        this.loginPath = loginPath;
+        this.usernameParameter = usernameParameter;
+        this.problemDetailMetrics = problemDetailMetrics;
+        this.tooManyAttempts = new StaticProblemResponse(objectMapper, HttpStatus.TOO_MANY_REQUESTS,
+                "Too Many Requests", "Too many login attempts", "login", "Too many login attempts, try again later");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+                || !loginPath.equals(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+
+        String email = request.getParameter(usernameParameter);
+
+        Duration wait = limiter.tryAcquire(email, request.getRemoteAddr());
+        if (!wait.isZero()) {
+            long seconds = Math.max(1, (wait.toMillis() + 999) / 1000);
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+            problemDetailMetrics.record(tooManyAttempts.problem());
+            tooManyAttempts.write(request, response);
+            return;
+        }
+
+        chain.doFilter(request, response);
+
+        if (response.getStatus() < 400) {
+            limiter.loginSucceeded(email);
+        }
+    }
+}
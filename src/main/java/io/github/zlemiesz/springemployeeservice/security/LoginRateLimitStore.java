@@ -0,0 +1,25 @@
+package io.github.zlemiesz.springemployeeservice.security;
+
+import java.time.Duration;
+
+/**
+ * Token buckets of {@link LoginRateLimiter}, keyed by {@code email:<address>} and {@code ip:<address>}.
+ * {@link InMemoryLoginRateLimitStore} is used unless the context defines another implementation,
+ * e.g. one backed by a store shared by all nodes.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public interface LoginRateLimitStore {
+
+    /**
+     * Takes one token from the bucket of {@code key}, creating a full bucket for an unknown key.
+     *
+     * @return {@link Duration#ZERO} when a token was taken, otherwise the time until the next one
+     */
+    Duration tryConsume(String key, LoginRateLimit limit);
+
+    /**
+     * Forgets the bucket of {@code key} (a successful login).
+     */
+    void reset(String key);
+}
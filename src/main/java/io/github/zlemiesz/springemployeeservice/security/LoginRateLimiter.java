@@ -0,0 +1,80 @@
+package io.github.zlemiesz.springemployeeservice.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Brute-force throttling of {@code POST /login}, checked by {@link LoginRateLimitFilter} before the
+ * credentials reach {@code DbUserDetailsService} and the password encoder.
+ * <p>
+ * Every attempt takes a token from the client address bucket (credential stuffing from one source)
+ * and from the email bucket (one account attacked from many sources); a successful login resets
+ * the email bucket. Rejections are counted in {@code security.login.throttled{key=ip|email}}.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public class LoginRateLimiter {
+
+    private final LoginRateLimitStore store;
+    private final LoginRateLimit perEmail;
+    private final LoginRateLimit perAddress;
+    private final Counter emailThrottled;
+    private final Counter addressThrottled;
+
+    public LoginRateLimiter(LoginRateLimitStore store,
+                            LoginRateLimit perEmail,
+                            LoginRateLimit perAddress,
+                            MeterRegistry meterRegistry) {
+        this.store = store;
+        this.perEmail = perEmail;
+        this.perAddress = perAddress;
+        this.emailThrottled = throttled(meterRegistry, "email");
+        this.addressThrottled = throttled(meterRegistry, "ip");
+
+        if (store instanceof InMemoryLoginRateLimitStore local) {
+            Gauge.builder("security.login.rate-limit.keys", local, InMemoryLoginRateLimitStore::size)
+                    .description("Login rate-limit buckets held in memory")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * @return {@link Duration#ZERO} if the attempt may proceed, otherwise how long the client should wait
+     */
+    public Duration tryAcquire(String email, String address) {
+        Duration wait = store.tryConsume("ip:" + address, perAddress);
+        if (!wait.isZero()) {
+            addressThrottled.increment();
+            return wait;
+        }
+        if (email != null && !email.isBlank()) {
+            wait = store.tryConsume(emailKey(email), perEmail);
+            if (!wait.isZero()) {
+                emailThrottled.increment();
+                return wait;
+            }
+        }
+        return Duration.ZERO;
+    }
+
+    public void loginSucceeded(String email) {
+        if (email != null && !email.isBlank()) {
+            store.reset(emailKey(email));
+        }
+    }
+
+    private static String emailKey(String email) {
+        return "email:" + email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Counter throttled(MeterRegistry meterRegistry, String key) {
+        return Counter.builder("security.login.throttled")
+                .description("Login attempts rejected by the rate limiter")
+                .tag("key", key)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.zlemiesz.springemployeeservice.security;
+
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+
+/**
+ * Builds the {@code {id}hash} encoder used for {@code user_accounts.password_hash}.
+ * <p>
+ * New hashes are written with the algorithm selected by {@code security.password.algorithm};
+ * existing hashes keep verifying with whatever algorithm their prefix names. Hashes stored before
+ * the prefix was introduced are plain BCrypt and are matched as such.
+ * {@link DelegatingPasswordEncoder#upgradeEncoding} reports a hash with a different id or weaker
+ * parameters than the current ones, which drives the rehash-on-login in
+ * {@link org.springframework.security.core.userdetails.UserDetailsPasswordService}.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public final class PasswordEncoders {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String ARGON2 = "argon2";
+
+    private static final int ARGON2_SALT_LENGTH = 16;
+    private static final int ARGON2_HASH_LENGTH = 32;
+
+    private PasswordEncoders() {
+    }
+
+    public static DelegatingPasswordEncoder delegating(String algorithm,
+                                                       int bcryptStrength,
+                                                       int argon2MemoryKib,
+                                                       int argon2Iterations,
+                                                       int argon2Parallelism) {
+        PasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        PasswordEncoder argon2 = new Argon2PasswordEncoder(
+                ARGON2_SALT_LENGTH, ARGON2_HASH_LENGTH, argon2Parallelism, argon2MemoryKib, argon2Iterations);
+
+        Map<String, PasswordEncoder> encoders = Map.of(
+                BCRYPT, bcrypt,
+                ARGON2, argon2
+        );
+        if (!encoders.containsKey(algorithm)) {
+            throw new IllegalArgumentException(
+                    "Unsupported security.password.algorithm: " + algorithm + " (expected one of " + encoders.keySet() + ")");
+        }
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(algorithm, encoders);
+        // legacy rows: "$2a$10$..." without an {id} prefix
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        return delegating;
+    }
+}
@@ -0,0 +1,86 @@
+package io.github.zlemiesz.springemployeeservice.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.github.zlemiesz.springemployeeservice.config.CacheConfig;
+import io.github.zlemiesz.springemployeeservice.event.EmployeeChangedEvent;
+import io.github.zlemiesz.springemployeeservice.event.UserAccountChangedEvent;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Locale;
+
+/**
+ * {@link UserCache} for {@code DaoAuthenticationProvider}: logins of a known user skip the
+ * {@code findForLoginByEmail} join query. Keys are normalized emails.
+ * <p>
+ * A cached principal whose password no longer matches is reloaded by the provider before the login is
+ * rejected, so a password changed on another node still works. Entries are dropped after commit when the
+ * account row changes ({@link UserAccountChangedEvent}) and when the employee's email changes or the
+ * employee is deleted, so an old password or address stops working on this node immediately
+ * and on other nodes after {@code security.principal-cache.ttl}.
+ *
+ * @author Zbigniew Lemiesz
+ */
+@Component
+public class PrincipalCache implements UserCache {
+
+    private final Cache<Object, Object> principals;
+
+    public PrincipalCache(ObjectProvider<CacheManager> cacheManager) {
+        CacheManager manager = cacheManager.getIfAvailable();
+        this.principals = manager != null && manager.getCache(CacheConfig.PRINCIPALS) instanceof CaffeineCache cache
+                ? cache.getNativeCache()
+                : null;
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        if (principals == null || username == null) {
+            return null;
+        }
+        return (UserDetails) principals.getIfPresent(normalize(username));
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        if (principals != null) {
+            principals.put(normalize(user.getUsername()), user);
+        }
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        if (principals != null && username != null) {
+            principals.invalidate(normalize(username));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        if (principals != null) {
+            // rare write path: scanning the bounded cache is cheaper than keeping a second index by account id
+            principals.asMap().values().removeIf(user ->
+                    user instanceof UserPrincipal principal && event.userAccountId().equals(principal.getUserAccountId()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        String previousEmail = event.previousEmail();
+        if (previousEmail == null) {
+            return;
+        }
+        if (event.isDeleted() || !previousEmail.equalsIgnoreCase(event.current().getEmail())) {
+            removeUserFromCache(previousEmail);
+        }
+    }
+
+    private static String normalize(String username) {
+        return username.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,20 +1,16 @@
 package io.github.zlemiesz.springemployeeservice.security;
 
+import io.github.zlemiesz.springemployeeservice.metrics.ProblemDetailMetrics;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
-import org.springframework.http.ProblemDetail;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.stereotype.Component;
 import tools.jackson.databind.ObjectMapper;
 
 import java.io.IOException;
-import java.net.URI;
-import java.util.List;
-import java.util.Map;
 
 /**
  * @author Zbigniew Lemiesz
@@ -23,26 +19,18 @@ import java.util.Map;
 @Component
 public class RestAccessDeniedHandler implements AccessDeniedHandler {
 
-    private static final URI ABOUT_BLANK = URI.create("about:blank");
-    private final ObjectMapper objectMapper;
+    private final StaticProblemResponse problem;
+    private final ProblemDetailMetrics problemDetailMetrics;
 
-    public RestAccessDeniedHandler(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
+    public RestAccessDeniedHandler(ObjectMapper objectMapper, ProblemDetailMetrics problemDetailMetrics) {
+        this.problem = new StaticProblemResponse(objectMapper, HttpStatus.FORBIDDEN,
+                "Forbidden", "Access is denied", "auth", "Insufficient privileges");
+        this.problemDetailMetrics = problemDetailMetrics;
     }
 
     @Override
     public void handle(HttpServletRequest request, HttpServletResponse response, AccessDeniedException accessDeniedException) throws IOException, ServletException {
-        ProblemDetail pd = ProblemDetail.forStatus(HttpStatus.FORBIDDEN);
-        pd.setType(ABOUT_BLANK);
-        pd.setTitle("Forbidden");
-        pd.setDetail("Access is denied");
-        pd.setInstance(URI.create(request.getRequestURI()));
-        pd.setProperty("errors", List.of(
-                Map.of("field", "auth", "message", "Insufficient privileges")
-        ));
-
-        response.setStatus(HttpStatus.FORBIDDEN.value());
-        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
-        objectMapper.writeValue(response.getOutputStream(), pd);
+        problemDetailMetrics.record(problem.problem());
+        problem.write(request, response);
     }
 }
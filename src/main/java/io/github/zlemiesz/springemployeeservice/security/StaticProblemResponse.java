@@ -0,0 +1,88 @@
+package io.github.zlemiesz.springemployeeservice.security;
+
+import io.github.zlemiesz.springemployeeservice.handler.error.ValidationError;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A fixed Problem Detail (401, 403) serialized once with the application {@link ObjectMapper}.
+ * Only {@code instance} differs per request: the JSON is kept as the bytes before and after it,
+ * and each response writes those two fragments around the JSON-escaped request URI.
+ *
+ * @author Zbigniew Lemiesz
+ */
+final class StaticProblemResponse {
+
+    private static final URI ABOUT_BLANK = URI.create("about:blank");
+    private static final String INSTANCE_MARKER = "urn:problem-instance";
+
+    private final ObjectMapper objectMapper;
+    private final ProblemDetail problem;
+    private final byte[] head;
+    private final byte[] tail;
+
+    StaticProblemResponse(ObjectMapper objectMapper, HttpStatus status, String title, String detail,
+                          String errorField, String errorMessage) {
+        this.objectMapper = objectMapper;
+        this.problem = ProblemDetail.forStatus(status);
+        problem.setType(ABOUT_BLANK);
+        problem.setTitle(title);
+        problem.setDetail(detail);
+        problem.setInstance(URI.create(INSTANCE_MARKER));
+        problem.setProperty("errors", List.of(new ValidationError(errorField, errorMessage)));
+
+        byte[] json = objectMapper.writeValueAsBytes(problem);
+        byte[] marker = objectMapper.writeValueAsBytes(INSTANCE_MARKER);
+        int at = indexOf(json, marker);
+        if (at < 0) {
+            throw new IllegalStateException("Problem JSON has no instance field: "
+                    + new String(json, StandardCharsets.UTF_8));
+        }
+        this.head = Arrays.copyOfRange(json, 0, at);
+        this.tail = Arrays.copyOfRange(json, at + marker.length, json.length);
+    }
+
+    /**
+     * The problem as built at startup ({@code instance} is a placeholder), e.g. for metrics.
+     */
+    ProblemDetail problem() {
+        return problem;
+    }
+
+    void write(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        byte[] instance = objectMapper.writeValueAsBytes(request.getRequestURI());
+
+        response.setStatus(problem.getStatus());
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.setContentLength(head.length + instance.length + tail.length);
+
+        ServletOutputStream out = response.getOutputStream();
+        out.write(head);
+        out.write(instance);
+        out.write(tail);
+    }
+
+    private static int indexOf(byte[] source, byte[] target) {
+        outer:
+        for (int i = 0; i <= source.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (source[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
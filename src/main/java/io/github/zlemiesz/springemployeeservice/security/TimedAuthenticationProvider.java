@@ -0,0 +1,63 @@
+package io.github.zlemiesz.springemployeeservice.security;
+
+import io.github.zlemiesz.springemployeeservice.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times the whole login check (user lookup through {@code DbUserDetailsService} or the principal cache,
+ * plus password verification) as {@code security.authentication{outcome=success|failure|busy}}.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public class TimedAuthenticationProvider implements AuthenticationProvider {
+
+    private final AuthenticationProvider delegate;
+
+    private final Timer success;
+    private final Timer failure;
+    private final Timer busy;
+
+    public TimedAuthenticationProvider(AuthenticationProvider delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.success = timer(meterRegistry, "success");
+        this.failure = timer(meterRegistry, "failure");
+        this.busy = timer(meterRegistry, "busy");
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        long started = System.nanoTime();
+        Timer outcome = failure;
+        try {
+            Authentication result = delegate.authenticate(authentication);
+            if (result != null) {
+                outcome = success;
+            }
+            return result;
+        } catch (PasswordHashingBusyException e) {
+            outcome = busy;
+            throw e;
+        } finally {
+            outcome.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("security.authentication")
+                .description("Login verification time")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.zlemiesz.springemployeeservice.security;
+
+import io.github.zlemiesz.springemployeeservice.event.UserAccountChangedEvent;
+import io.github.zlemiesz.springemployeeservice.model.UserAccount;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * JPA listener on {@link UserAccount}, instantiated by Spring through Hibernate's bean container.
+ * Every write path that changes the password hash or the enabled flag (e.g. {@code AuthService.changePassword})
+ * is covered without having to remember to evict {@link PrincipalCache} by hand.
+ * Role changes do not update the row; code changing roles must publish {@link UserAccountChangedEvent} itself.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public class UserAccountChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public UserAccountChangeListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostUpdate
+    @PostRemove
+    void changed(UserAccount userAccount) {
+        eventPublisher.publishEvent(new UserAccountChangedEvent(userAccount.getId()));
+    }
+}
@@ -6,6 +6,7 @@ import io.github.zlemiesz.springemployeeservice.security.UserPrincipal;
 import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -14,11 +15,14 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
 /**
+ * Loads login principals and, as {@link UserDetailsPasswordService}, stores the re-encoded hash
+ * when a successful login finds the old one outdated (other algorithm or weaker cost).
+ *
  * @author Zbigniew Lemiesz
  */
 
 @Service
-public class DbUserDetailsService implements UserDetailsService {
+public class DbUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserAccountRepository userAccountRepository;
 
@@ -52,4 +56,22 @@ public class DbUserDetailsService implements UserDetailsService {
                 authorities
         );
     }
+
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        UserPrincipal principal = (UserPrincipal) user;
+
+        UserAccount userAccount = userAccountRepository.findById(principal.getUserAccountId())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + principal.getEmail()));
+        userAccount.setPasswordHash(newPassword);
+
+        return new UserPrincipal(
+                principal.getUserAccountId(),
+                principal.getEmail(),
+                newPassword,
+                principal.isEnabled(),
+                principal.getAuthorities()
+        );
+    }
 }
@@ -0,0 +1,23 @@
+package io.github.zlemiesz.springemployeeservice.service;
+
+import io.github.zlemiesz.springemployeeservice.dto.EmployeeCreateDto;
+import io.github.zlemiesz.springemployeeservice.dto.batch.BatchResponse;
+import io.github.zlemiesz.springemployeeservice.dto.batch.EmployeeBatchDeleteDto;
+import io.github.zlemiesz.springemployeeservice.dto.batch.EmployeeBatchPutDto;
+
+import java.util.List;
+
+/**
+ * Bulk writes. Items that fail validation, lookup, version or email checks are reported
+ * per item and skipped; the remaining items are written in one transaction.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public interface EmployeeBatchService {
+
+    BatchResponse createAll(List<EmployeeCreateDto> items);
+
+    BatchResponse updateAll(List<EmployeeBatchPutDto> items);
+
+    BatchResponse deleteAll(List<EmployeeBatchDeleteDto> items);
+}
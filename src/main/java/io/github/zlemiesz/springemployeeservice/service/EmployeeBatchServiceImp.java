@@ -0,0 +1,241 @@
+package io.github.zlemiesz.springemployeeservice.service;
+
+import io.github.zlemiesz.springemployeeservice.dto.EmployeeCreateDto;
+import io.github.zlemiesz.springemployeeservice.dto.batch.BatchItemResult;
+import io.github.zlemiesz.springemployeeservice.dto.batch.BatchItemStatus;
+import io.github.zlemiesz.springemployeeservice.dto.batch.BatchResponse;
+import io.github.zlemiesz.springemployeeservice.dto.batch.EmployeeBatchDeleteDto;
+import io.github.zlemiesz.springemployeeservice.dto.batch.EmployeeBatchPutDto;
+import io.github.zlemiesz.springemployeeservice.event.EmployeeChangedEvent;
+import io.github.zlemiesz.springemployeeservice.handler.error.ValidationError;
+import io.github.zlemiesz.springemployeeservice.mapper.EmployeeMapper;
+import io.github.zlemiesz.springemployeeservice.model.Employee;
+import io.github.zlemiesz.springemployeeservice.repository.EmployeeRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Set-wise implementation of {@link EmployeeBatchService}: one {@code IN} query loads the employees,
+ * one checks email uniqueness, and the writes are flushed as JDBC batches
+ * ({@code hibernate.jdbc.batch_size}). A concurrent change detected at flush
+ * (optimistic lock, unique index) rolls back the whole batch.
+ *
+ * @author Zbigniew Lemiesz
+ */
+@Service
+public class EmployeeBatchServiceImp implements EmployeeBatchService {
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeMapper employeeMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public EmployeeBatchServiceImp(EmployeeRepository employeeRepository, EmployeeMapper employeeMapper,
+                                   Validator validator, ApplicationEventPublisher eventPublisher) {
+        this.employeeRepository = employeeRepository;
+        this.employeeMapper = employeeMapper;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional
+    @Override
+    public BatchResponse createAll(List<EmployeeCreateDto> items) {
+        List<BatchItemResult> results = new ArrayList<>(items.size());
+        Map<String, Integer> emails = new HashMap<>();
+        List<Pending<EmployeeCreateDto>> pending = new ArrayList<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            EmployeeCreateDto dto = items.get(i);
+            List<ValidationError> errors = validate(dto);
+            if (!errors.isEmpty()) {
+                results.add(BatchItemResult.failure(i, BatchItemStatus.INVALID, null, null, errors));
+                continue;
+            }
+            if (emails.putIfAbsent(normalizeEmail(dto.getEmail()), i) != null) {
+                results.add(duplicateEmail(i, null, dto.getEmail()));
+                continue;
+            }
+            pending.add(new Pending<>(i, dto, employeeMapper.toEntity(dto)));
+        }
+
+        Map<String, Long> taken = owners(emails.keySet());
+        List<Pending<EmployeeCreateDto>> accepted = new ArrayList<>(pending.size());
+        for (Pending<EmployeeCreateDto> item : pending) {
+            if (taken.containsKey(normalizeEmail(item.dto().getEmail()))) {
+                results.add(emailInUse(item.index(), null, item.dto().getEmail()));
+            } else {
+                accepted.add(item);
+            }
+        }
+
+        employeeRepository.saveAll(accepted.stream().map(Pending::employee).toList());
+        employeeRepository.flush();
+
+        for (Pending<EmployeeCreateDto> item : accepted) {
+            Employee employee = item.employee();
+            results.add(BatchItemResult.success(item.index(), BatchItemStatus.CREATED, employee.getId(), employee.getVersion()));
+            eventPublisher.publishEvent(EmployeeChangedEvent.saved(employeeMapper.toResponse(employee)));
+        }
+        return BatchResponse.of(results);
+    }
+
+    @Transactional
+    @Override
+    public BatchResponse updateAll(List<EmployeeBatchPutDto> items) {
+        List<BatchItemResult> results = new ArrayList<>(items.size());
+        Map<Long, Employee> current = loadAll(items.stream().filter(Objects::nonNull).map(EmployeeBatchPutDto::getId).toList());
+        Set<Long> seenIds = new HashSet<>();
+        Map<String, Integer> changedEmails = new HashMap<>();
+        List<Pending<EmployeeBatchPutDto>> pending = new ArrayList<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            EmployeeBatchPutDto dto = items.get(i);
+            List<ValidationError> errors = validate(dto);
+            if (!errors.isEmpty()) {
+                results.add(BatchItemResult.failure(i, BatchItemStatus.INVALID, dto != null ? dto.getId() : null, null, errors));
+                continue;
+            }
+            BatchItemResult rejected = checkTarget(i, dto.getId(), dto.getVersion(), current, seenIds);
+            if (rejected != null) {
+                results.add(rejected);
+                continue;
+            }
+
+            Employee employee = current.get(dto.getId());
+            String email = normalizeEmail(dto.getEmail());
+            if (!email.equals(employee.getEmail()) && changedEmails.putIfAbsent(email, i) != null) {
+                results.add(duplicateEmail(i, dto.getId(), dto.getEmail()));
+                continue;
+            }
+            pending.add(new Pending<>(i, dto, employee));
+        }
+
+        Map<String, Long> owners = owners(changedEmails.keySet());
+        List<Pending<EmployeeBatchPutDto>> accepted = new ArrayList<>(pending.size());
+        for (Pending<EmployeeBatchPutDto> item : pending) {
+            Long owner = owners.get(normalizeEmail(item.dto().getEmail()));
+            if (owner != null && !owner.equals(item.dto().getId())) {
+                results.add(emailInUse(item.index(), item.dto().getId(), item.dto().getEmail()));
+            } else {
+                accepted.add(item);
+            }
+        }
+
+        List<String> previousEmails = new ArrayList<>(accepted.size());
+        for (Pending<EmployeeBatchPutDto> item : accepted) {
+            previousEmails.add(item.employee().getEmail());
+            employeeMapper.updateEntity(item.dto(), item.employee());
+        }
+        employeeRepository.flush();
+
+        for (int i = 0; i < accepted.size(); i++) {
+            Pending<EmployeeBatchPutDto> item = accepted.get(i);
+            Employee employee = item.employee();
+            results.add(BatchItemResult.success(item.index(), BatchItemStatus.UPDATED, employee.getId(), employee.getVersion()));
+            eventPublisher.publishEvent(EmployeeChangedEvent.saved(employeeMapper.toResponse(employee), previousEmails.get(i)));
+        }
+        return BatchResponse.of(results);
+    }
+
+    @Transactional
+    @Override
+    public BatchResponse deleteAll(List<EmployeeBatchDeleteDto> items) {
+        List<BatchItemResult> results = new ArrayList<>(items.size());
+        Map<Long, Employee> current = loadAll(items.stream().filter(Objects::nonNull).map(EmployeeBatchDeleteDto::id).toList());
+        Set<Long> seenIds = new HashSet<>();
+        List<Pending<EmployeeBatchDeleteDto>> accepted = new ArrayList<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            EmployeeBatchDeleteDto dto = items.get(i);
+            List<ValidationError> errors = validate(dto);
+            if (!errors.isEmpty()) {
+                results.add(BatchItemResult.failure(i, BatchItemStatus.INVALID, dto != null ? dto.id() : null, null, errors));
+                continue;
+            }
+            BatchItemResult rejected = checkTarget(i, dto.id(), dto.version(), current, seenIds);
+            if (rejected != null) {
+                results.add(rejected);
+                continue;
+            }
+            accepted.add(new Pending<>(i, dto, current.get(dto.id())));
+        }
+
+        employeeRepository.deleteAll(accepted.stream().map(Pending::employee).toList());
+        employeeRepository.flush();
+
+        for (Pending<EmployeeBatchDeleteDto> item : accepted) {
+            Employee employee = item.employee();
+            results.add(BatchItemResult.success(item.index(), BatchItemStatus.DELETED, employee.getId(), null));
+            eventPublisher.publishEvent(EmployeeChangedEvent.deleted(employee.getId(), employee.getEmail()));
+        }
+        return BatchResponse.of(results);
+    }
+
+    private BatchItemResult checkTarget(int index, Long id, Long version, Map<Long, Employee> current, Set<Long> seenIds) {
+        if (!seenIds.add(id)) {
+            return BatchItemResult.failure(index, BatchItemStatus.INVALID, id, "id", "Duplicate id in batch: " + id);
+        }
+        Employee employee = current.get(id);
+        if (employee == null) {
+            return BatchItemResult.failure(index, BatchItemStatus.NOT_FOUND, id, "resource", "No employee with id: " + id);
+        }
+        if (!Objects.equals(version, employee.getVersion())) {
+            return BatchItemResult.failure(index, BatchItemStatus.VERSION_CONFLICT, id, employee.getVersion(),
+                    List.of(new ValidationError("version",
+                            "Version mismatch: request " + version + " but actual value is " + employee.getVersion())));
+        }
+        return null;
+    }
+
+    private Map<Long, Employee> loadAll(List<Long> ids) {
+        return employeeRepository.findAllById(ids.stream().filter(Objects::nonNull).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(Employee::getId, Function.identity()));
+    }
+
+    private Map<String, Long> owners(Set<String> emails) {
+        if (emails.isEmpty()) {
+            return Map.of();
+        }
+        return employeeRepository.findByEmailIn(emails)
+                .stream()
+                .collect(Collectors.toMap(owner -> normalizeEmail(owner.getEmail()), EmployeeRepository.EmailOwner::getId));
+    }
+
+    private List<ValidationError> validate(Object item) {
+        if (item == null) {
+            return List.of(new ValidationError("body", "Item must not be null"));
+        }
+        Set<ConstraintViolation<Object>> violations = validator.validate(item);
+        return violations.stream()
+                .map(v -> new ValidationError(v.getPropertyPath().toString(), v.getMessage()))
+                .sorted(Comparator.comparing(ValidationError::field))
+                .toList();
+    }
+
+    private static BatchItemResult duplicateEmail(int index, Long id, String email) {
+        return BatchItemResult.failure(index, BatchItemStatus.EMAIL_CONFLICT, id, "email",
+                "Duplicate email in batch: " + email.trim());
+    }
+
+    private static BatchItemResult emailInUse(int index, Long id, String email) {
+        return BatchItemResult.failure(index, BatchItemStatus.EMAIL_CONFLICT, id, "email",
+                "Email already in use: " + email.trim());
+    }
+
+    // same normalization as Employee#normalize
+    private static String normalizeEmail(String email) {
+        return email.trim().toLowerCase();
+    }
+
+    private record Pending<T>(int index, T dto, Employee employee) {
+    }
+}
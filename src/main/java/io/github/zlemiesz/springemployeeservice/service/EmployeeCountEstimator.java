@@ -0,0 +1,75 @@
+package io.github.zlemiesz.springemployeeservice.service;
+
+import io.github.zlemiesz.springemployeeservice.repository.EmployeeRepository;
+import io.github.zlemiesz.springemployeeservice.specification.EmployeeSpecifications;
+import io.github.zlemiesz.springemployeeservice.specification.MatchMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Approximate {@code totalElements} for {@link io.github.zlemiesz.springemployeeservice.pagination.CountMode#ESTIMATED}.
+ * Unfiltered listings use InnoDB table statistics; filtered ones reuse an exact count
+ * that is refreshed at most once per {@code employee.count.cache-ttl}.
+ *
+ * @author Zbigniew Lemiesz
+ */
+@Component
+public class EmployeeCountEstimator {
+
+    private final EmployeeRepository employeeRepository;
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    private final Map<FilterKey, CachedCount> counts = new ConcurrentHashMap<>();
+
+    public EmployeeCountEstimator(EmployeeRepository employeeRepository,
+                                  @Value("${employee.count.cache-ttl:60s}") Duration ttl,
+                                  @Value("${employee.count.cache-max-entries:1000}") int maxEntries) {
+        this.employeeRepository = employeeRepository;
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    public long estimate(String firstName, String lastName, String email, MatchMode match) {
+        FilterKey key = new FilterKey(normalize(firstName), normalize(lastName), normalize(email), match);
+        long now = System.nanoTime();
+
+        CachedCount cached = counts.get(key);
+        if (cached != null && now - cached.loadedAt() < ttlNanos) {
+            return cached.value();
+        }
+
+        long value = key.isEmpty()
+                ? tableStatistics()
+                : employeeRepository.count(EmployeeSpecifications.filter(firstName, lastName, email, match));
+
+        // simple bound: drop everything instead of tracking LRU order for a best-effort cache
+        if (counts.size() >= maxEntries) {
+            counts.clear();
+        }
+        counts.put(key, new CachedCount(value, now));
+        return value;
+    }
+
+    private long tableStatistics() {
+        Long estimate = employeeRepository.estimateRowCount();
+        return estimate != null ? estimate : employeeRepository.count();
+    }
+
+    private static String normalize(String value) {
+        return value == null || value.isEmpty() ? null : value.toLowerCase();
+    }
+
+    private record FilterKey(String firstName, String lastName, String email, MatchMode match) {
+        boolean isEmpty() {
+            return firstName == null && lastName == null && email == null;
+        }
+    }
+
+    private record CachedCount(long value, long loadedAt) {
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.zlemiesz.springemployeeservice.service;
+
+import io.github.zlemiesz.springemployeeservice.specification.MatchMode;
+import io.github.zlemiesz.springemployeeservice.transfer.DataFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * @author Zbigniew Lemiesz
+ */
+public interface EmployeeExportService {
+
+    /**
+     * Writes every employee matching the filters to {@code out}, ordered by id, one per line.
+     * The stream is flushed but not closed.
+     */
+    void export(String firstName, String lastName, String email, MatchMode match, DataFormat format,
+                OutputStream out) throws IOException;
+}
@@ -0,0 +1,75 @@
+package io.github.zlemiesz.springemployeeservice.service;
+
+import io.github.zlemiesz.springemployeeservice.dto.EmployeeResponseDto;
+import io.github.zlemiesz.springemployeeservice.repository.EmployeeRepository;
+import io.github.zlemiesz.springemployeeservice.specification.EmployeeSpecifications;
+import io.github.zlemiesz.springemployeeservice.specification.MatchMode;
+import io.github.zlemiesz.springemployeeservice.transfer.DataFormat;
+import io.github.zlemiesz.springemployeeservice.transfer.EmployeeCsv;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams rows from {@link EmployeeRepository#streamResponses} straight into the response:
+ * nothing is collected into a list, so memory use does not grow with the number of employees.
+ *
+ * @author Zbigniew Lemiesz
+ */
+@Service
+public class EmployeeExportServiceImp implements EmployeeExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final EmployeeRepository employeeRepository;
+    private final ObjectWriter rowWriter;
+
+    public EmployeeExportServiceImp(EmployeeRepository employeeRepository, JsonMapper jsonMapper) {
+        this.employeeRepository = employeeRepository;
+        this.rowWriter = jsonMapper.writerFor(EmployeeResponseDto.class);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public void export(String firstName, String lastName, String email, MatchMode match, DataFormat format,
+                       OutputStream out) throws IOException {
+        try (Stream<EmployeeResponseDto> rows = employeeRepository.streamResponses(
+                EmployeeSpecifications.filter(firstName, lastName, email, match), Sort.by("id"))) {
+
+            switch (format) {
+                case NDJSON -> writeNdjson(rows.iterator(), out);
+                case CSV -> writeCsv(rows.iterator(), out);
+            }
+        }
+    }
+
+    private void writeNdjson(Iterator<EmployeeResponseDto> rows, OutputStream out) throws IOException {
+        BufferedOutputStream buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+        while (rows.hasNext()) {
+            buffered.write(rowWriter.writeValueAsBytes(rows.next()));
+            buffered.write('\n');
+        }
+        buffered.flush();
+    }
+
+    private void writeCsv(Iterator<EmployeeResponseDto> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        EmployeeCsv.writeHeader(writer);
+        while (rows.hasNext()) {
+            EmployeeCsv.writeRow(writer, rows.next());
+        }
+        writer.flush();
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.zlemiesz.springemployeeservice.service;
+
+import io.github.zlemiesz.springemployeeservice.dto.transfer.ImportJobResponse;
+import io.github.zlemiesz.springemployeeservice.transfer.DataFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.UUID;
+
+/**
+ * @author Zbigniew Lemiesz
+ */
+public interface EmployeeImportService {
+
+    /**
+     * Spools {@code body} to a temporary file and queues the import; returns as soon as the upload is stored.
+     */
+    ImportJobResponse submit(DataFormat format, InputStream body) throws IOException;
+
+    ImportJobResponse status(UUID jobId);
+}
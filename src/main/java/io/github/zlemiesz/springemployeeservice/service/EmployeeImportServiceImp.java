@@ -0,0 +1,210 @@
+package io.github.zlemiesz.springemployeeservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.github.zlemiesz.springemployeeservice.dto.EmployeeCreateDto;
+import io.github.zlemiesz.springemployeeservice.dto.batch.BatchItemResult;
+import io.github.zlemiesz.springemployeeservice.dto.batch.BatchResponse;
+import io.github.zlemiesz.springemployeeservice.dto.transfer.ImportJobResponse;
+import io.github.zlemiesz.springemployeeservice.exception.ImportCapacityExceededException;
+import io.github.zlemiesz.springemployeeservice.exception.ImportJobNotFoundException;
+import io.github.zlemiesz.springemployeeservice.exception.ImportTooLargeException;
+import io.github.zlemiesz.springemployeeservice.handler.error.ValidationError;
+import io.github.zlemiesz.springemployeeservice.transfer.CsvEmployeeRowReader;
+import io.github.zlemiesz.springemployeeservice.transfer.DataFormat;
+import io.github.zlemiesz.springemployeeservice.transfer.EmployeeRowReader;
+import io.github.zlemiesz.springemployeeservice.transfer.ImportJob;
+import io.github.zlemiesz.springemployeeservice.transfer.ImportRow;
+import io.github.zlemiesz.springemployeeservice.transfer.NdjsonEmployeeRowReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Imports run in the background on {@code employeeImportExecutor}:
+ * <ol>
+ *     <li>the upload is copied to a temporary file while the request is open (constant memory),</li>
+ *     <li>the file is parsed row by row and rows are grouped into chunks of {@code employee.import.chunk-size},</li>
+ *     <li>every chunk goes through {@link EmployeeBatchService#createAll} - the same validation, email checks,
+ *     normalization and JDBC batching as {@code POST /employee/batch}, one transaction per chunk.</li>
+ * </ol>
+ * Job state lives in memory on the instance that accepted the upload. A finished job, error report
+ * included, expires {@code employee.import.retention} after it finishes, whether or not anything is
+ * submitted or polled afterwards; queued and running jobs never expire.
+ *
+ * @author Zbigniew Lemiesz
+ */
+@Service
+public class EmployeeImportServiceImp implements EmployeeImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeImportServiceImp.class);
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final Duration NEVER = Duration.ofNanos(Long.MAX_VALUE);
+
+    private final EmployeeBatchService batchService;
+    private final TaskExecutor importExecutor;
+    private final ObjectReader ndjsonRowReader;
+    private final int chunkSize;
+    private final long maxBytes;
+
+    private final Cache<UUID, ImportJob> jobs;
+
+    @Autowired
+    public EmployeeImportServiceImp(EmployeeBatchService batchService,
+                                    @Qualifier("employeeImportExecutor") TaskExecutor importExecutor,
+                                    JsonMapper jsonMapper,
+                                    @Value("${employee.import.chunk-size:500}") int chunkSize,
+                                    @Value("${employee.import.max-bytes:209715200}") long maxBytes,
+                                    @Value("${employee.import.retention:1h}") Duration retention) {
+        this(batchService, importExecutor, jsonMapper, chunkSize, maxBytes, retention, Ticker.systemTicker());
+    }
+
+    EmployeeImportServiceImp(EmployeeBatchService batchService, TaskExecutor importExecutor, JsonMapper jsonMapper,
+                             int chunkSize, long maxBytes, Duration retention, Ticker ticker) {
+        this.batchService = batchService;
+        this.importExecutor = importExecutor;
+        this.ndjsonRowReader = jsonMapper.readerFor(EmployeeCreateDto.class);
+        this.chunkSize = chunkSize;
+        this.maxBytes = maxBytes;
+        // expiry is evaluated on every put: the job is put again when it finishes
+        this.jobs = Caffeine.newBuilder()
+                .expireAfter(Expiry.<UUID, ImportJob>writing((id, job) -> job.isFinished() ? retention : NEVER))
+                .scheduler(Scheduler.systemScheduler())
+                .ticker(ticker)
+                .build();
+    }
+
+    @Override
+    public ImportJobResponse submit(DataFormat format, InputStream body) throws IOException {
+        Path file = spool(body, format);
+        ImportJob job = new ImportJob(format, MAX_REPORTED_ERRORS);
+        jobs.put(job.id(), job);
+
+        try {
+            importExecutor.execute(() -> run(job, file, format));
+        } catch (TaskRejectedException e) {
+            jobs.invalidate(job.id());
+            Files.deleteIfExists(file);
+            throw new ImportCapacityExceededException();
+        }
+        return job.toResponse();
+    }
+
+    @Override
+    public ImportJobResponse status(UUID jobId) {
+        ImportJob job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            throw new ImportJobNotFoundException(jobId);
+        }
+        return job.toResponse();
+    }
+
+    private void run(ImportJob job, Path file, DataFormat format) {
+        job.start();
+        try (EmployeeRowReader reader = open(file, format)) {
+            List<ImportRow> chunk = new ArrayList<>(chunkSize);
+            ImportRow row;
+            while ((row = reader.next()) != null) {
+                if (row.error() != null) {
+                    job.rowFailed(row.row(), List.of(row.error()));
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    writeChunk(job, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(job, chunk);
+            }
+            job.complete();
+        } catch (Exception e) {
+            log.warn("Employee import {} failed", job.id(), e);
+            job.fail(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        } finally {
+            jobs.put(job.id(), job);
+            deleteQuietly(file);
+        }
+    }
+
+    private void writeChunk(ImportJob job, List<ImportRow> chunk) {
+        try {
+            BatchResponse response = batchService.createAll(chunk.stream().map(ImportRow::employee).toList());
+            job.rowsCreated(response.succeeded());
+            for (BatchItemResult item : response.items()) {
+                if (!item.status().isSuccess()) {
+                    job.rowFailed(chunk.get(item.index()).row(), item.errors());
+                }
+            }
+        } catch (DataAccessException e) {
+            // e.g. a concurrent insert of the same email: the chunk was rolled back as a whole
+            List<ValidationError> errors = List.of(new ValidationError("conflict",
+                    "Chunk rolled back: " + e.getMostSpecificCause().getMessage()));
+            for (ImportRow row : chunk) {
+                job.rowFailed(row.row(), errors);
+            }
+        }
+    }
+
+    private EmployeeRowReader open(Path file, DataFormat format) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        return switch (format) {
+            case CSV -> new CsvEmployeeRowReader(reader);
+            case NDJSON -> new NdjsonEmployeeRowReader(reader, ndjsonRowReader);
+        };
+    }
+
+    private Path spool(InputStream body, DataFormat format) throws IOException {
+        Path file = Files.createTempFile("employee-import-", "." + format.extension());
+        try (OutputStream out = Files.newOutputStream(file)) {
+            byte[] buffer = new byte[COPY_BUFFER_SIZE];
+            long total = 0;
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                total += read;
+                if (total > maxBytes) {
+                    throw new ImportTooLargeException(maxBytes);
+                }
+                out.write(buffer, 0, read);
+            }
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+        return file;
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete import file {}", file, e);
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package io.github.zlemiesz.springemployeeservice.service;
 
 import io.github.zlemiesz.springemployeeservice.dto.*;
+import io.github.zlemiesz.springemployeeservice.dto.common.CursorPageResponse;
+import io.github.zlemiesz.springemployeeservice.specification.MatchMode;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 
@@ -10,10 +14,23 @@ import java.util.List;
  * @author Zbigniew Lemiesz
  */
 public interface EmployeeService {
-    Page<EmployeeResponseDto> findAll(String firstName, String lastName, String email, Pageable pageable);
+    Page<EmployeeResponseDto> findAll(String firstName, String lastName, String email, MatchMode match, Pageable pageable);
+
+    Slice<EmployeeResponseDto> findSlice(String firstName, String lastName, String email, MatchMode match,
+                                         Pageable pageable);
+
+    long estimateTotal(String firstName, String lastName, String email, MatchMode match);
+
+    CursorPageResponse<EmployeeResponseDto> findAllAfter(String firstName, String lastName, String email,
+                                                         MatchMode match, String after, int size, Sort sort);
 
     EmployeeResponseDto findById(Long id);
 
+    /**
+     * Current optimistic-lock version, without loading the employee.
+     */
+    Long findVersion(Long id);
+
     EmployeeResponseDto create(EmployeeCreateDto dto);
 
     EmployeeResponseDto update(Long id, EmployeePutDto dto);
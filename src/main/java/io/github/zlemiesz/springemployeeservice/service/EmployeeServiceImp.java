@@ -1,17 +1,28 @@
 package io.github.zlemiesz.springemployeeservice.service;
 
+import io.github.zlemiesz.springemployeeservice.cache.EmployeeCache;
+import io.github.zlemiesz.springemployeeservice.datasource.ReadRouting;
 import io.github.zlemiesz.springemployeeservice.dto.*;
+import io.github.zlemiesz.springemployeeservice.dto.common.CursorPageResponse;
+import io.github.zlemiesz.springemployeeservice.event.EmployeeChangedEvent;
 import io.github.zlemiesz.springemployeeservice.exception.EmailAlreadyInUseException;
 import io.github.zlemiesz.springemployeeservice.exception.EmployeeNotFoundException;
+import io.github.zlemiesz.springemployeeservice.exception.InvalidCursorException;
 import io.github.zlemiesz.springemployeeservice.exception.VersionMismatchException;
 import io.github.zlemiesz.springemployeeservice.mapper.EmployeeMapper;
 import io.github.zlemiesz.springemployeeservice.model.Employee;
+import io.github.zlemiesz.springemployeeservice.pagination.EmployeeCursor;
+import io.github.zlemiesz.springemployeeservice.pagination.EmployeeKeyset;
 import io.github.zlemiesz.springemployeeservice.repository.EmployeeRepository;
 import io.github.zlemiesz.springemployeeservice.specification.EmployeeSpecifications;
-import jakarta.transaction.Transactional;
+import io.github.zlemiesz.springemployeeservice.specification.MatchMode;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 
@@ -24,10 +35,18 @@ public class EmployeeServiceImp implements EmployeeService {
 
     private final EmployeeRepository employeeRepository;
     private final EmployeeMapper employeeMapper;
+    private final EmployeeCountEstimator countEstimator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EmployeeCache employeeCache;
 
-    public EmployeeServiceImp(EmployeeRepository employeeRepository, EmployeeMapper employeeMapper) {
+    public EmployeeServiceImp(EmployeeRepository employeeRepository, EmployeeMapper employeeMapper,
+                              EmployeeCountEstimator countEstimator, ApplicationEventPublisher eventPublisher,
+                              EmployeeCache employeeCache) {
         this.employeeRepository = employeeRepository;
         this.employeeMapper = employeeMapper;
+        this.countEstimator = countEstimator;
+        this.eventPublisher = eventPublisher;
+        this.employeeCache = employeeCache;
     }
 
     @Transactional
@@ -38,19 +57,72 @@ public class EmployeeServiceImp implements EmployeeService {
         }
 
         Employee dbEmployee = employeeRepository.save(employeeMapper.toEntity(dto));
-        return employeeMapper.toResponse(dbEmployee);
+        return publishSaved(employeeMapper.toResponse(dbEmployee), null);
     }
 
+    @Transactional(readOnly = true)
     @Override
-    public Page<EmployeeResponseDto> findAll(String firstName, String lastName, String email, Pageable pageable) {
-        return employeeRepository.findAll(EmployeeSpecifications.filter(firstName, lastName, email), pageable)
-                .map(employeeMapper::toResponse);
+    public Page<EmployeeResponseDto> findAll(String firstName, String lastName, String email, MatchMode match,
+                                             Pageable pageable) {
+        return employeeRepository.findResponses(EmployeeSpecifications.filter(firstName, lastName, email, match), pageable);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Slice<EmployeeResponseDto> findSlice(String firstName, String lastName, String email, MatchMode match,
+                                                Pageable pageable) {
+        return employeeRepository.findResponseSlice(EmployeeSpecifications.filter(firstName, lastName, email, match),
+                pageable);
+    }
+
+    @Override
+    public long estimateTotal(String firstName, String lastName, String email, MatchMode match) {
+        return countEstimator.estimate(firstName, lastName, email, match);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPageResponse<EmployeeResponseDto> findAllAfter(String firstName, String lastName, String email,
+                                                                MatchMode match, String after, int size, Sort sort) {
+        EmployeeKeyset keyset = EmployeeKeyset.from(sort);
+        EmployeeCursor cursor = after != null && !after.isBlank() ? EmployeeCursor.decode(after) : null;
+        if (cursor != null && !cursor.keyset().equals(keyset)) {
+            throw new InvalidCursorException("Cursor was issued for a different sort order");
+        }
+
+        // fetch one extra row to know whether there is a next page without running COUNT(*)
+        List<EmployeeResponseDto> rows = employeeRepository.findResponses(
+                EmployeeSpecifications.filter(firstName, lastName, email, match)
+                        .and(EmployeeSpecifications.after(cursor)),
+                keyset.sort(),
+                size + 1
+        );
+
+        boolean hasNext = rows.size() > size;
+        List<EmployeeResponseDto> content = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = hasNext ? EmployeeCursor.after(content.getLast(), keyset).encode() : null;
+        return new CursorPageResponse<>(content, size, nextCursor, hasNext);
+    }
+
+    // not @Transactional: a cache hit should not borrow a connection;
+    // the miss is read from the primary, a replica row would stay in the shared cache for employee.cache.ttl
     @Override
     public EmployeeResponseDto findById(Long id) {
-        Employee dbEmployee = findEmployeeOrThrow(id);
-        return employeeMapper.toResponse(dbEmployee);
+        return employeeCache.get(id).orElseGet(() -> {
+            Employee employee = ReadRouting.onPrimary(() -> findEmployeeOrThrow(id));
+            EmployeeResponseDto response = employeeMapper.toResponse(employee);
+            employeeCache.put(response);
+            return response;
+        });
+    }
+
+    @Override
+    public Long findVersion(Long id) {
+        return employeeCache.get(id)
+                .map(EmployeeResponseDto::getVersion)
+                .or(() -> employeeRepository.findVersionById(id))
+                .orElseThrow(() -> new EmployeeNotFoundException(id));
     }
 
     @Transactional
@@ -61,15 +133,13 @@ public class EmployeeServiceImp implements EmployeeService {
         if (dto.getEmail() != null) {
             validateEmailUnique(dto.getEmail(), id);
         }
+        String previousEmail = dbEmployee.getEmail();
 
+        employeeMapper.updateEntity(dto, dbEmployee);
 
-        dbEmployee.setFirstName(dto.getFirstName());
-        dbEmployee.setLastName(dto.getLastName());
-        dbEmployee.setEmail(dto.getEmail());
-        dbEmployee.setVersion(dto.getVersion());
-
-        Employee updatedEmployee = employeeRepository.save(dbEmployee);
-        return employeeMapper.toResponse(updatedEmployee);
+        // flush so the response and the cached copy carry the incremented version
+        Employee updatedEmployee = employeeRepository.saveAndFlush(dbEmployee);
+        return publishSaved(employeeMapper.toResponse(updatedEmployee), previousEmail);
     }
 
     @Transactional
@@ -78,18 +148,13 @@ public class EmployeeServiceImp implements EmployeeService {
         Employee dBemployee = findEmployeeOrThrow(id);
         validateVersion(dto.getVersion(), dBemployee.getVersion());
 
-        if (dto.getFirstName() != null) {
-            dBemployee.setFirstName(dto.getFirstName().trim());
-        }
-        if (dto.getLastName() != null) {
-            dBemployee.setLastName(dto.getLastName().trim());
-        }
         if (dto.getEmail() != null) {
             validateEmailUnique(dto.getEmail(), id);
-            dBemployee.setEmail(dto.getEmail().trim());
         }
+        String previousEmail = dBemployee.getEmail();
+        employeeMapper.patchEntity(dto, dBemployee);
 
-        return employeeMapper.toResponse(employeeRepository.save(dBemployee));
+        return publishSaved(employeeMapper.toResponse(employeeRepository.saveAndFlush(dBemployee)), previousEmail);
     }
 
 
@@ -99,13 +164,25 @@ public class EmployeeServiceImp implements EmployeeService {
         validateVersion(version, dBemployee.getVersion());
 
         employeeRepository.delete(dBemployee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.deleted(id, dBemployee.getEmail()));
+    }
+
+    private EmployeeResponseDto publishSaved(EmployeeResponseDto response, String previousEmail) {
+        eventPublisher.publishEvent(EmployeeChangedEvent.saved(response, previousEmail));
+        return response;
     }
 
     private void validateEmailUnique(String email, Long currentEmployeeId) {
         String emailTrimmed = email.trim();
-        employeeRepository.findByEmail(emailTrimmed)
-                .filter(emp -> !emp.getId().equals(currentEmployeeId))
-                .ifPresent(emp -> {
+        // only "taken" is cached; a free address is always confirmed by the database (and its unique index)
+        Optional<Long> ownerId = employeeCache.idByEmail(emailTrimmed)
+                .or(() -> employeeRepository.findByEmail(emailTrimmed).map(emp -> {
+                    employeeCache.putEmail(emp.getEmail(), emp.getId());
+                    return emp.getId();
+                }));
+
+        ownerId.filter(owner -> !owner.equals(currentEmployeeId))
+                .ifPresent(owner -> {
                     throw new EmailAlreadyInUseException(emailTrimmed);
                 });
     }
@@ -1,6 +1,10 @@
 package io.github.zlemiesz.springemployeeservice.specification;
 
 import io.github.zlemiesz.springemployeeservice.model.Employee;
+import io.github.zlemiesz.springemployeeservice.pagination.EmployeeCursor;
+import io.github.zlemiesz.springemployeeservice.pagination.EmployeeSortKey;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
 
@@ -15,35 +19,92 @@ import java.util.List;
 
 public class EmployeeSpecifications {
 
+    // not a backslash: MySQL treats '\' inside string literals as an escape itself
+    private static final char LIKE_ESCAPE = '!';
+
     public static Specification<Employee> filter(
             String firstName,
             String lastName,
             String email
+    ) {
+        return filter(firstName, lastName, email, MatchMode.CONTAINS);
+    }
+
+    /**
+     * Filters on the lower-cased generated columns ({@code first_name_lc}, {@code last_name_lc})
+     * and the already normalized {@code email}, so {@link MatchMode#PREFIX} and {@link MatchMode#EXACT}
+     * are served by an index instead of {@code lower(col) LIKE '%term%'}.
+     */
+    public static Specification<Employee> filter(
+            String firstName,
+            String lastName,
+            String email,
+            MatchMode mode
     ) {
         return (root, query, cb) -> {
 
             List<Predicate> predicates = new ArrayList<>();
 
             if (firstName != null && !firstName.isEmpty()) {
-                predicates.add(
-                        cb.like(cb.lower(root.get("firstName")), "%" + firstName.toLowerCase() + "%")
-                );
+                predicates.add(match(cb, root.get("firstNameLc"), firstName, mode));
             }
 
             if (lastName != null && !lastName.isEmpty()) {
-                predicates.add(
-                        cb.like(cb.lower(root.get("lastName")), "%" + lastName.toLowerCase() + "%")
-                );
+                predicates.add(match(cb, root.get("lastNameLc"), lastName, mode));
             }
 
             if (email != null && !email.isEmpty()) {
-                predicates.add(
-                        cb.like(cb.lower(root.get("email")), "%" + email.toLowerCase() + "%")
-                );
+                predicates.add(match(cb, root.get("email"), email, mode));
             }
 
             return cb.and(predicates.toArray(new Predicate[0]));
         };
     }
-}
 
+    private static Predicate match(CriteriaBuilder cb, Path<String> column, String term, MatchMode mode) {
+        String normalized = term.trim().toLowerCase();
+
+        return switch (mode) {
+            case EXACT -> cb.equal(column, normalized);
+            case PREFIX -> cb.like(column, escapeLike(normalized) + "%", LIKE_ESCAPE);
+            case CONTAINS -> cb.like(column, "%" + escapeLike(normalized) + "%", LIKE_ESCAPE);
+        };
+    }
+
+    private static String escapeLike(String term) {
+        return term.replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+    }
+
+    /**
+     * Keyset (seek) predicate: rows strictly after the cursor position in the cursor's sort order.
+     * Translates to {@code key > :value OR (key = :value AND id > :id)} so the
+     * {@code (key, id)} index can be range-scanned instead of skipping OFFSET rows.
+     */
+    public static Specification<Employee> after(EmployeeCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) {
+                return cb.conjunction();
+            }
+
+            boolean ascending = cursor.keyset().direction().isAscending();
+
+            Path<Long> id = root.get("id");
+            Predicate idAfter = ascending
+                    ? cb.greaterThan(id, cursor.id())
+                    : cb.lessThan(id, cursor.id());
+
+            if (cursor.keyset().sortKey() == EmployeeSortKey.ID) {
+                return idAfter;
+            }
+
+            Path<String> key = root.get(cursor.keyset().sortKey().property());
+            Predicate keyAfter = ascending
+                    ? cb.greaterThan(key, cursor.value())
+                    : cb.lessThan(key, cursor.value());
+
+            return cb.or(keyAfter, cb.and(cb.equal(key, cursor.value()), idAfter));
+        };
+    }
+}
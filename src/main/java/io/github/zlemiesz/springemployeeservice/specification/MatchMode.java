@@ -0,0 +1,15 @@
+package io.github.zlemiesz.springemployeeservice.specification;
+
+/**
+ * How filter terms are matched in {@link EmployeeSpecifications#filter}.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public enum MatchMode {
+    /** {@code column LIKE 'term%'} - uses the index. */
+    PREFIX,
+    /** {@code column = 'term'} - uses the index. */
+    EXACT,
+    /** {@code column LIKE '%term%'} - full scan, kept as the default for compatibility. */
+    CONTAINS
+}
@@ -0,0 +1,83 @@
+package io.github.zlemiesz.springemployeeservice.transfer;
+
+import io.github.zlemiesz.springemployeeservice.dto.EmployeeCreateDto;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * CSV with a header row naming at least {@code firstName}, {@code lastName} and {@code email}
+ * (any order, case-insensitive). Other columns, such as {@code id} and {@code version} of an export, are ignored.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public class CsvEmployeeRowReader implements EmployeeRowReader {
+
+    private final CsvRecordReader records;
+
+    private int firstName = -1;
+    private int lastName = -1;
+    private int email = -1;
+    private boolean headerRead;
+
+    public CsvEmployeeRowReader(Reader reader) {
+        this.records = new CsvRecordReader(reader);
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        if (!headerRead) {
+            readHeader();
+        }
+
+        List<String> record;
+        do {
+            record = records.next();
+            if (record == null) {
+                return null;
+            }
+        } while (record.size() == 1 && record.getFirst().isBlank());
+
+        EmployeeCreateDto dto = new EmployeeCreateDto();
+        dto.setFirstName(cell(record, firstName));
+        dto.setLastName(cell(record, lastName));
+        dto.setEmail(cell(record, email));
+        return ImportRow.of(records.recordLine(), dto);
+    }
+
+    @Override
+    public void close() throws IOException {
+        records.close();
+    }
+
+    private void readHeader() throws IOException {
+        headerRead = true;
+        List<String> header = records.next();
+        if (header == null) {
+            throw new IOException("CSV is empty, expected a header row");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            switch (header.get(i).trim().toLowerCase(Locale.ROOT)) {
+                case "firstname" -> firstName = i;
+                case "lastname" -> lastName = i;
+                case "email" -> email = i;
+                default -> {
+                    // ignored column
+                }
+            }
+        }
+        if (firstName < 0 || lastName < 0 || email < 0) {
+            throw new IOException("CSV header must contain firstName, lastName and email columns");
+        }
+    }
+
+    private static String cell(List<String> record, int index) {
+        if (index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index);
+        return value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.zlemiesz.springemployeeservice.transfer;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Line-oriented formats used for bulk export and import: one employee per line.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public enum DataFormat {
+    NDJSON(MediaType.valueOf("application/x-ndjson"), "ndjson"),
+    CSV(MediaType.valueOf("text/csv;charset=UTF-8"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    DataFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.zlemiesz.springemployeeservice.transfer;
+
+import io.github.zlemiesz.springemployeeservice.dto.EmployeeResponseDto;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * RFC 4180 CSV for employees: comma separated, fields with a comma, quote or line break are quoted
+ * and quotes are doubled.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public final class EmployeeCsv {
+
+    public static final String EXPORT_HEADER = "id,firstName,lastName,email,version";
+
+    private EmployeeCsv() {
+    }
+
+    public static void writeHeader(Writer writer) throws IOException {
+        writer.write(EXPORT_HEADER);
+        writer.write("\r\n");
+    }
+
+    public static void writeRow(Writer writer, EmployeeResponseDto employee) throws IOException {
+        writer.write(String.valueOf(employee.getId()));
+        writer.write(',');
+        writeField(writer, employee.getFirstName());
+        writer.write(',');
+        writeField(writer, employee.getLastName());
+        writer.write(',');
+        writeField(writer, employee.getEmail());
+        writer.write(',');
+        writer.write(String.valueOf(employee.getVersion()));
+        writer.write("\r\n");
+    }
+
+    static void writeField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (!needsQuoting(value)) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private static boolean needsQuoting(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
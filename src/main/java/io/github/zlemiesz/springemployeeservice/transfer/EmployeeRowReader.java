@@ -0,0 +1,18 @@
+package io.github.zlemiesz.springemployeeservice.transfer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Pull-style reader of employees from an import file.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public interface EmployeeRowReader extends Closeable {
+
+    /**
+     * @return the next row, or {@code null} at the end of input
+     * @throws IOException when the input cannot be read any further (e.g. a missing CSV column)
+     */
+    ImportRow next() throws IOException;
+}
@@ -0,0 +1,92 @@
+package io.github.zlemiesz.springemployeeservice.transfer;
+
+import io.github.zlemiesz.springemployeeservice.dto.transfer.ImportJobResponse;
+import io.github.zlemiesz.springemployeeservice.dto.transfer.ImportJobStatus;
+import io.github.zlemiesz.springemployeeservice.dto.transfer.ImportRowError;
+import io.github.zlemiesz.springemployeeservice.handler.error.ValidationError;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Mutable state of one running import. Written by the import thread, read by status requests.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public class ImportJob {
+
+    private final UUID id = UUID.randomUUID();
+    private final DataFormat format;
+    private final int maxReportedErrors;
+    private final Instant submittedAt = Instant.now();
+
+    private final List<ImportRowError> errors = new ArrayList<>();
+    private ImportJobStatus status = ImportJobStatus.QUEUED;
+    private long created;
+    private long failed;
+    private String message;
+    private Instant startedAt;
+    private Instant finishedAt;
+
+    public ImportJob(DataFormat format, int maxReportedErrors) {
+        this.format = format;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public UUID id() {
+        return id;
+    }
+
+    public synchronized void start() {
+        status = ImportJobStatus.RUNNING;
+        startedAt = Instant.now();
+    }
+
+    public synchronized void rowsCreated(int count) {
+        created += count;
+    }
+
+    public synchronized void rowFailed(long row, List<ValidationError> rowErrors) {
+        failed++;
+        if (errors.size() < maxReportedErrors) {
+            errors.add(new ImportRowError(row, rowErrors));
+        }
+    }
+
+    public synchronized void complete() {
+        finish(ImportJobStatus.COMPLETED, null);
+    }
+
+    public synchronized void fail(String reason) {
+        finish(ImportJobStatus.FAILED, reason);
+    }
+
+    public synchronized boolean isFinished() {
+        return status.isFinished();
+    }
+
+    public synchronized ImportJobResponse toResponse() {
+        return new ImportJobResponse(
+                id,
+                format,
+                status,
+                created + failed,
+                created,
+                failed,
+                List.copyOf(errors),
+                failed > errors.size(),
+                message,
+                submittedAt,
+                startedAt,
+                finishedAt
+        );
+    }
+
+    private void finish(ImportJobStatus finalStatus, String reason) {
+        status = finalStatus;
+        message = reason;
+        finishedAt = Instant.now();
+    }
+}
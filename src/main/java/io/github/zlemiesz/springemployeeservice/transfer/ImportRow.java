@@ -0,0 +1,21 @@
+package io.github.zlemiesz.springemployeeservice.transfer;
+
+import io.github.zlemiesz.springemployeeservice.dto.EmployeeCreateDto;
+import io.github.zlemiesz.springemployeeservice.handler.error.ValidationError;
+
+/**
+ * One parsed input row: either an {@code employee} or the {@code error} that prevented parsing it.
+ * {@code row} is the 1-based line number in the uploaded file.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public record ImportRow(long row, EmployeeCreateDto employee, ValidationError error) {
+
+    public static ImportRow of(long row, EmployeeCreateDto employee) {
+        return new ImportRow(row, employee, null);
+    }
+
+    public static ImportRow failed(long row, String field, String message) {
+        return new ImportRow(row, null, new ValidationError(field, message));
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.zlemiesz.springemployeeservice.transfer;
+
+import io.github.zlemiesz.springemployeeservice.dto.EmployeeCreateDto;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.exc.UnrecognizedPropertyException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * One JSON object per line, with the fields of {@link EmployeeCreateDto}. A line that does not
+ * parse is reported as a failed row and the import continues with the next line.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public class NdjsonEmployeeRowReader implements EmployeeRowReader {
+
+    private final BufferedReader reader;
+    private final ObjectReader rowReader;
+
+    private long line;
+
+    public NdjsonEmployeeRowReader(BufferedReader reader, ObjectReader rowReader) {
+        this.reader = reader;
+        this.rowReader = rowReader;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        String text;
+        do {
+            text = reader.readLine();
+            line++;
+            if (text == null) {
+                return null;
+            }
+        } while (text.isBlank());
+
+        try {
+            return ImportRow.of(line, rowReader.readValue(text));
+        } catch (UnrecognizedPropertyException e) {
+            return ImportRow.failed(line, e.getPropertyName(), "Field is not allowed");
+        } catch (JacksonException e) {
+            return ImportRow.failed(line, "body", "JSON is not valid");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.zlemiesz.springemployeeservice.web;
+
+import io.github.zlemiesz.springemployeeservice.exception.PreconditionFailedException;
+
+/**
+ * Strong entity tags derived from the optimistic-lock version: {@code "<id>-<version>"}.
+ * The tag changes exactly when the row does, so it can be compared without reading or serializing the body.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public final class EmployeeETag {
+
+    private static final String ANY = "*";
+
+    private EmployeeETag() {
+    }
+
+    public static String of(Long id, Long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    /**
+     * Version requested by an {@code If-Match} header for employee {@code id}.
+     *
+     * @return {@code null} when there is no header or it is {@code *}
+     * @throws PreconditionFailedException when no strong tag of this employee is listed
+     */
+    public static Long versionFromIfMatch(String ifMatch, Long id) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals(ANY)) {
+            return null;
+        }
+
+        String prefix = "\"" + id + "-";
+        for (String tag : ifMatch.split(",")) {
+            String candidate = tag.trim();
+            // If-Match uses strong comparison, a weak tag (W/"...") never matches
+            if (candidate.startsWith(prefix) && candidate.endsWith("\"") && candidate.length() > prefix.length() + 1) {
+                try {
+                    return Long.valueOf(candidate.substring(prefix.length(), candidate.length() - 1));
+                } catch (NumberFormatException ignored) {
+                    // not one of our tags, keep looking
+                }
+            }
+        }
+        throw new PreconditionFailedException("If-Match does not contain a current tag of employee " + id);
+    }
+}
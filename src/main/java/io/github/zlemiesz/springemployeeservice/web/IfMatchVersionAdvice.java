@@ -0,0 +1,90 @@
+package io.github.zlemiesz.springemployeeservice.web;
+
+import io.github.zlemiesz.springemployeeservice.controller.EmployeeController;
+import io.github.zlemiesz.springemployeeservice.dto.EmployeePatchDto;
+import io.github.zlemiesz.springemployeeservice.dto.EmployeePutDto;
+import io.github.zlemiesz.springemployeeservice.exception.PreconditionFailedException;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Lets PUT/PATCH clients send the version as {@code If-Match: "<id>-<version>"} instead of
+ * in the body. The header fills a missing {@code version} before {@code @Valid} runs; a body
+ * version that disagrees with the header is rejected with 412.
+ * <p>
+ * The applied header version is kept in {@link #IF_MATCH_VERSION_ATTRIBUTE}, so that a later version
+ * mismatch can be told apart: a stale If-Match is 412, a stale body version stays 409.
+ *
+ * @author Zbigniew Lemiesz
+ */
+@ControllerAdvice(assignableTypes = EmployeeController.class)
+public class IfMatchVersionAdvice extends RequestBodyAdviceAdapter {
+
+    public static final String IF_MATCH_VERSION_ATTRIBUTE = IfMatchVersionAdvice.class.getName() + ".VERSION";
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return targetType == EmployeePutDto.class || targetType == EmployeePatchDto.class;
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter,
+                                Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        String ifMatch = inputMessage.getHeaders().getFirst(HttpHeaders.IF_MATCH);
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        Long id = pathId(attributes);
+        if (ifMatch == null || id == null) {
+            return body;
+        }
+
+        Long version = EmployeeETag.versionFromIfMatch(ifMatch, id);
+        if (version == null) {
+            return body;
+        }
+        attributes.setAttribute(IF_MATCH_VERSION_ATTRIBUTE, version, RequestAttributes.SCOPE_REQUEST);
+
+        if (body instanceof EmployeePutDto put) {
+            put.setVersion(merge(put.getVersion(), version));
+        } else if (body instanceof EmployeePatchDto patch) {
+            patch.setVersion(merge(patch.getVersion(), version));
+        }
+        return body;
+    }
+
+    private static Long merge(Long bodyVersion, Long headerVersion) {
+        if (bodyVersion != null && !Objects.equals(bodyVersion, headerVersion)) {
+            throw new PreconditionFailedException(
+                    "If-Match version " + headerVersion + " does not match body version " + bodyVersion);
+        }
+        return headerVersion;
+    }
+
+    // the input message is a wrapper (EmptyBodyCheckingHttpInputMessage), not the servlet request
+    private static Long pathId(RequestAttributes attributes) {
+        if (attributes == null) {
+            return null;
+        }
+        Object variables = attributes.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+        if (!(variables instanceof Map<?, ?> map) || !(map.get("id") instanceof String id)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(id);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,3 @@
+-- keyset pagination: every sortable column ends with id as a tie-breaker
+CREATE INDEX idx_employees_first_name_id ON employees (first_name, id);
+CREATE INDEX idx_employees_last_name_id ON employees (last_name, id);
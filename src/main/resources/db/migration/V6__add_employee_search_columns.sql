@@ -0,0 +1,8 @@
+-- lower-cased copies of the name columns so prefix/exact search can use a B-tree index
+-- (email is already stored lower-case by the application and has a unique index)
+ALTER TABLE employees
+    ADD COLUMN first_name_lc VARCHAR(255) GENERATED ALWAYS AS (LOWER(first_name)) STORED,
+    ADD COLUMN last_name_lc VARCHAR(255) GENERATED ALWAYS AS (LOWER(last_name)) STORED;
+
+CREATE INDEX idx_employees_first_name_lc ON employees (first_name_lc);
+CREATE INDEX idx_employees_last_name_lc ON employees (last_name_lc);
@@ -0,0 +1,9 @@
+-- ids are handed out by Hibernate in blocks of 50 (pooled table generator) instead of AUTO_INCREMENT,
+-- which lets inserts be sent as JDBC batches; the first block starts above every existing id
+CREATE TABLE IF NOT EXISTS id_generators (
+    name VARCHAR(64) NOT NULL PRIMARY KEY,
+    next_val BIGINT NOT NULL
+);
+
+INSERT INTO id_generators (name, next_val)
+SELECT 'employees', COALESCE(MAX(id), 0) + 100 FROM employees;
@@ -0,0 +1,54 @@
+#!/usr/bin/env bash
+#
+# Smoke test of the native binary against the local database (application.properties, or
+# SPRING_DATASOURCE_URL / SPRING_DATASOURCE_USERNAME / SPRING_DATASOURCE_PASSWORD):
+# waits for /actuator/health to report UP (datasource + Flyway), checks that an anonymous call gets
+# a 401 problem response (security + Jackson), then records startup time and resident memory.
+#
+# usage: native-smoke-test.sh <binary> [port] [report file]
+# run by ./mvnw -Pnative verify
+#
+# @author Zbigniew Lemiesz
+#
+set -euo pipefail
+
+BINARY="$1"
+PORT="${2:-18080}"
+REPORT="${3:-$(dirname "$BINARY")/native-smoke.txt}"
+LOG="$(dirname "$BINARY")/native-smoke.log"
+TIMEOUT_MS=60000
+
+fail() {
+    echo "native-smoke: $1" >&2
+    tail -n 50 "$LOG" >&2 || true
+    exit 1
+}
+
+elapsed_ms() {
+    echo $(( ($(date +%s%N) - STARTED) / 1000000 ))
+}
+
+STARTED=$(date +%s%N)
+"$BINARY" --server.port="$PORT" --management.server.port="$PORT" > "$LOG" 2>&1 &
+PID=$!
+trap 'kill "$PID" 2> /dev/null || true' EXIT
+
+until curl -fs "http://localhost:$PORT/actuator/health" | grep -q '"UP"'; do
+    kill -0 "$PID" 2> /dev/null || fail "application exited before becoming healthy"
+    (( $(elapsed_ms) < TIMEOUT_MS )) || fail "not healthy after ${TIMEOUT_MS} ms"
+    sleep 0.05
+done
+READY_MS=$(elapsed_ms)
+
+STATUS=$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:$PORT/employee")
+[[ "$STATUS" == "401" ]] || fail "GET /employee without credentials returned $STATUS, expected 401"
+
+REPORTED=$(sed -n 's/.*Started .* in \([0-9.]*\) seconds.*/\1/p' "$LOG" | tail -n 1)
+RSS_KB=$(ps -o rss= -p "$PID" | tr -d ' ')
+
+{
+    echo "=== Native smoke test: $(basename "$BINARY") ==="
+    echo "startup (reported)   ${REPORTED:-?} s"
+    echo "healthy after        ${READY_MS} ms"
+    echo "rss                  $(( RSS_KB / 1024 )) MiB"
+} | tee "$REPORT"
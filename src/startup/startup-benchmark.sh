@@ -0,0 +1,48 @@
+#!/usr/bin/env bash
+#
+# Startup time of the extracted application jar: plain JVM vs Spring AOT vs AOT + AppCDS archive.
+# Each run refreshes the context and exits (-Dspring.context.exit=onRefresh); the reported time is
+# the wall clock of the whole java process, i.e. what a restarting pod waits for.
+#
+# usage: startup-benchmark.sh <extracted jar> [runs] [spring profiles]
+# run by ./mvnw -Pstartup verify
+#
+# @author Zbigniew Lemiesz
+#
+set -euo pipefail
+
+JAR="$1"
+RUNS="${2:-5}"
+PROFILES="${3:-production,training}"
+ARCHIVE="$(dirname "$JAR")/application.jsa"
+
+run_once() {
+    local started ended
+    started=$(date +%s%N)
+    java "$@" -Dspring.context.exit=onRefresh -jar "$JAR" --spring.profiles.active="$PROFILES" > /dev/null 2>&1 || return 1
+    ended=$(date +%s%N)
+    echo $(( (ended - started) / 1000000 ))
+}
+
+measure() {
+    local name="$1"
+    shift
+    local samples=() sample
+    run_once "$@" > /dev/null   # warm the page cache, not counted
+    for ((i = 0; i < RUNS; i++)); do
+        sample=$(run_once "$@")
+        samples+=("$sample")
+    done
+    printf '%s\n' "${samples[@]}" | sort -n | awk -v name="$name" '
+        { ms[NR] = $1; sum += $1 }
+        END { printf "%-8s  mean %6d ms   median %6d ms   min %6d ms\n", name, sum / NR, ms[int((NR + 1) / 2)], ms[1] }'
+}
+
+echo "=== Startup time: $RUNS runs each, profiles $PROFILES ==="
+measure "jvm"
+measure "aot" -Dspring.aot.enabled=true
+if [[ -f "$ARCHIVE" ]]; then
+    measure "aot+cds" -Dspring.aot.enabled=true -XX:SharedArchiveFile="$ARCHIVE"
+else
+    echo "aot+cds   skipped: $ARCHIVE not found"
+fi
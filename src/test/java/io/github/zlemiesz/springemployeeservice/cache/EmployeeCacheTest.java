@@ -0,0 +1,85 @@
+package io.github.zlemiesz.springemployeeservice.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.zlemiesz.springemployeeservice.config.CacheConfig;
+import io.github.zlemiesz.springemployeeservice.dto.EmployeeResponseDto;
+import io.github.zlemiesz.springemployeeservice.event.EmployeeChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Zbigniew Lemiesz
+ */
+public class EmployeeCacheTest {
+
+    private EmployeeCache cache;
+
+    @BeforeEach
+    void setUp() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(CacheConfig.EMPLOYEES, Caffeine.newBuilder().build());
+        cacheManager.registerCustomCache(CacheConfig.EMPLOYEE_IDS_BY_EMAIL, Caffeine.newBuilder().build());
+
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("cacheManager", cacheManager);
+        cache = new EmployeeCache(beanFactory.getBeanProvider(CacheManager.class));
+    }
+
+    @Test
+    void shouldNotReplaceNewerVersion() {
+        cache.put(employee(1L, "jan@x.pl", 3L));
+        cache.put(employee(1L, "old@x.pl", 2L));
+
+        assertThat(cache.get(1L)).get().extracting(EmployeeResponseDto::getVersion).isEqualTo(3L);
+    }
+
+    @Test
+    void shouldMoveEmailMappingOnEmailChange() {
+        cache.putEmail("jan@x.pl", 1L);
+
+        cache.onEmployeeChanged(EmployeeChangedEvent.saved(employee(1L, "janek@x.pl", 4L), "jan@x.pl"));
+
+        assertThat(cache.idByEmail("jan@x.pl")).isEmpty();
+        assertThat(cache.idByEmail(" JANEK@x.pl ")).contains(1L);
+        assertThat(cache.get(1L)).get().extracting(EmployeeResponseDto::getEmail).isEqualTo("janek@x.pl");
+    }
+
+    @Test
+    void shouldEvictOnDelete() {
+        cache.put(employee(1L, "jan@x.pl", 1L));
+        cache.putEmail("jan@x.pl", 1L);
+
+        cache.onEmployeeChanged(EmployeeChangedEvent.deleted(1L, "jan@x.pl"));
+
+        assertThat(cache.get(1L)).isEmpty();
+        assertThat(cache.idByEmail("jan@x.pl")).isEmpty();
+    }
+
+    @Test
+    void shouldNotRefillDeletedEmployeeFromStaleRead() {
+        cache.put(employee(1L, "jan@x.pl", 2L));
+
+        cache.onEmployeeChanged(EmployeeChangedEvent.deleted(1L, "jan@x.pl"));
+        // a GET that read the row before the delete committed, or from a lagging replica
+        cache.put(employee(1L, "jan@x.pl", 2L));
+
+        assertThat(cache.get(1L)).isEmpty();
+    }
+
+    @Test
+    void shouldMissEverythingWithoutCacheManager() {
+        EmployeeCache disabled = new EmployeeCache(new StaticListableBeanFactory().getBeanProvider(CacheManager.class));
+        disabled.put(employee(1L, "jan@x.pl", 1L));
+
+        assertThat(disabled.get(1L)).isEmpty();
+    }
+
+    private static EmployeeResponseDto employee(Long id, String email, Long version) {
+        return new EmployeeResponseDto(id, "Jan", "Kowalski", email, version);
+    }
+}
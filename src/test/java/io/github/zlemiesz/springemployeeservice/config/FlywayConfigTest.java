@@ -0,0 +1,31 @@
+package io.github.zlemiesz.springemployeeservice.config;
+
+import org.flywaydb.core.api.MigrationVersion;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Zbigniew Lemiesz
+ */
+public class FlywayConfigTest {
+
+    @Test
+    void shouldPickNewestVersionedMigrationNumerically() {
+        MigrationVersion latest = FlywayConfig.latestVersion(List.of(
+                "V2__add_user_accounts.sql",
+                "V10__add_index.sql",
+                "V9_1__fix_data.sql",
+                "R__refresh_view.sql",
+                "README.md"));
+
+        assertThat(latest).isEqualTo(MigrationVersion.fromVersion("10"));
+    }
+
+    @Test
+    void shouldReturnNullWithoutVersionedMigrations() {
+        assertThat(FlywayConfig.latestVersion(List.of("R__refresh_view.sql"))).isNull();
+    }
+}
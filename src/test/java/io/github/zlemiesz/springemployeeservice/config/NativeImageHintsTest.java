@@ -0,0 +1,33 @@
+package io.github.zlemiesz.springemployeeservice.config;
+
+import io.github.zlemiesz.springemployeeservice.metrics.QueryStatsSessionListener;
+import io.github.zlemiesz.springemployeeservice.model.Employee;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.sql.Connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Zbigniew Lemiesz
+ */
+public class NativeImageHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @Test
+    void shouldRegisterWhatAotCannotInfer() {
+        new NativeImageHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/migration/V1__create_employees_table.sql"))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(QueryStatsSessionListener.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(Employee.class)
+                .withMemberCategory(MemberCategory.ACCESS_DECLARED_FIELDS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(Connection.class)).accepts(hints);
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.zlemiesz.springemployeeservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.github.zlemiesz.springemployeeservice.datasource.ConnectionLimitingDataSource;
+import io.github.zlemiesz.springemployeeservice.datasource.ReplicaDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Zbigniew Lemiesz
+ */
+public class VirtualThreadConfigTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ConfigurationPropertiesAutoConfiguration.class))
+            .withUserConfiguration(DataSourceConfig.class, VirtualThreadConfig.class)
+            .withPropertyValues(
+                    "spring.datasource.url=jdbc:mysql://localhost:3306/employee_service_db",
+                    "spring.datasource.hikari.maximum-pool-size=7",
+                    "employee.virtual-threads.pinning-monitor.enabled=false");
+
+    @Test
+    void shouldFrontThePoolWithoutChangingItsType() {
+        runner.withPropertyValues("spring.threads.virtual.enabled=true").run(context -> {
+            assertThat(context.getBean("dataSource")).isInstanceOf(HikariDataSource.class);
+            assertThat(context.getBean(HikariDataSource.class).getMaximumPoolSize()).isEqualTo(7);
+            assertThat(context.getBean(DataSource.class)).isInstanceOf(ConnectionLimitingDataSource.class);
+        });
+    }
+
+    @Test
+    void shouldLimitReplicaFallbackReadsLikeWrites() {
+        // Duration @Value parameters, converted by Boot's conversion service as in the application
+        runner.withInitializer(context -> context.getBeanFactory()
+                        .setConversionService(ApplicationConversionService.getSharedInstance()))
+                .withPropertyValues(
+                        "spring.threads.virtual.enabled=true",
+                        "employee.datasource.replicas.enabled=true",
+                        "employee.datasource.replicas.urls=jdbc:mysql://localhost:3307/employee_service_db")
+                .run(context -> {
+                    Object primary = context.getBean("primaryConnections");
+                    assertThat(primary).isInstanceOf(ConnectionLimitingDataSource.class);
+                    assertThat(ReflectionTestUtils.getField(context.getBean(ReplicaDataSource.class), "primary"))
+                            .isSameAs(primary);
+                    assertThat(context.getBean(LazyConnectionDataSourceProxy.class).getTargetDataSource())
+                            .isSameAs(primary);
+                });
+    }
+
+    @Test
+    void shouldLeaveThePoolAloneWithoutVirtualThreads() {
+        runner.run(context -> assertThat(context.getBean(DataSource.class)).isInstanceOf(HikariDataSource.class));
+    }
+}
@@ -0,0 +1,86 @@
+package io.github.zlemiesz.springemployeeservice.controller;
+
+import io.github.zlemiesz.springemployeeservice.model.Employee;
+import io.github.zlemiesz.springemployeeservice.repository.EmployeeRepository;
+import io.github.zlemiesz.springemployeeservice.security.AccessTokenService;
+import io.github.zlemiesz.springemployeeservice.security.UserPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static io.github.zlemiesz.springemployeeservice.support.QueryStatsAssertions.assertStatementsAtMost;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Query budgets of the read endpoints, the whole request path against a real Hibernate session
+ * (H2 in place of MySQL, schema from the entities). Token mode, so authentication needs no query.
+ *
+ * @author Zbigniew Lemiesz
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-budget;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "employee.flyway.startup-mode=skip",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "security.auth.mode=token",
+        "security.token.secret=MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY="
+})
+@AutoConfigureMockMvc
+class EmployeeQueryBudgetTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    EmployeeRepository employeeRepository;
+
+    @Autowired
+    AccessTokenService accessTokenService;
+
+    private String authorization;
+    private Long firstId;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAllInBatch();
+        List<Employee> saved = employeeRepository.saveAll(List.of(
+                new Employee("Jan", "Kowalski", "jan@x.pl"),
+                new Employee("Anna", "Nowak", "anna@x.pl"),
+                new Employee("Piotr", "Wisniewski", "piotr@x.pl")));
+        firstId = saved.getFirst().getId();
+
+        authorization = AccessTokenService.TOKEN_TYPE + " " + accessTokenService.issue(
+                new UserPrincipal(1L, "viewer@x.pl", "", true, List.of(new SimpleGrantedAuthority("ROLE_VIEWER"))));
+    }
+
+    @Test
+    void getAll_shouldIssueAtMostTwoStatements() throws Exception {
+        // page query and count query (a page smaller than the total, so the count is not skipped)
+        assertStatementsAtMost(2, () -> mockMvc.perform(get("/employee").param("size", "2")
+                        .header(HttpHeaders.AUTHORIZATION, authorization))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.totalElements").value(3)));
+    }
+
+    @Test
+    void getById_withMatchingIfNoneMatch_shouldIssueAtMostOneStatement() throws Exception {
+        // version lookup only, the employee is neither loaded nor serialized
+        assertStatementsAtMost(1, () -> mockMvc.perform(get("/employee/" + firstId)
+                        .header(HttpHeaders.AUTHORIZATION, authorization)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + firstId + "-0\""))
+                .andExpect(status().isNotModified()));
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.zlemiesz.springemployeeservice.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Zbigniew Lemiesz
+ */
+public class ReplicaDataSourceTest {
+
+    private final HikariDataSource replica = mock(HikariDataSource.class);
+    private final DataSource primary = mock(DataSource.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private final Connection primaryConnection = mock(Connection.class);
+
+    private ReplicaDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        when(replica.getPoolName()).thenReturn("replica-1");
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        dataSource = new ReplicaDataSource(List.of(replica), primary, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadRouting.clear();
+        dataSource.close();
+    }
+
+    @Test
+    void shouldReadFromReplicaUnlessPinnedToPrimary() throws SQLException {
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+
+        ReadRouting.pinToPrimary();
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void shouldFailOverToPrimaryAndRecoverOnHealthCheck() throws SQLException {
+        when(replica.getConnection()).thenThrow(new SQLTransientConnectionException("replica down"));
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(dataSource.healthyReplicas()).isZero();
+
+        reset(replica);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        when(replicaConnection.isValid(1)).thenReturn(true);
+        dataSource.checkHealth();
+
+        assertThat(dataSource.healthyReplicas()).isEqualTo(1);
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+    }
+}
@@ -2,6 +2,7 @@
 package io.github.zlemiesz.springemployeeservice.dto;
 
 import io.github.zlemiesz.springemployeeservice.controller.EmployeeController;
+import io.github.zlemiesz.springemployeeservice.exception.VersionMismatchException;
 import io.github.zlemiesz.springemployeeservice.handler.GlobalExceptionHandler;
 import io.github.zlemiesz.springemployeeservice.model.Employee;
 import io.github.zlemiesz.springemployeeservice.service.EmployeeService;
@@ -19,7 +20,10 @@ import org.springframework.test.web.servlet.MockMvc;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -259,4 +263,88 @@ class EmployeeErrorHandlingMvcTest {
 
         ra.andExpect(jsonPath("$.errors[0].field").value("conflict"));
     }
+
+    // =====================================================================
+    // Conditional requests (ETag from version)
+    // =====================================================================
+
+    @Test
+    void get_withMatchingIfNoneMatch_shouldReturn304WithoutLoadingEmployee() throws Exception {
+        when(employeeService.findVersion(1L)).thenReturn(3L);
+
+        mockMvc.perform(get("/employee/1").header("If-None-Match", "\"1-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"1-3\""))
+                .andExpect(content().string(""));
+
+        verify(employeeService, never()).findById(anyLong());
+    }
+
+    @Test
+    void put_withIfMatchNotMatchingBodyVersion_shouldReturn412ProblemDetail() throws Exception {
+        String body = """
+                {
+                  "firstName": "Jan",
+                  "lastName": "Kowalski",
+                  "email": "jan@x.pl",
+                  "version": 1
+                }
+                """;
+
+        var ra = mockMvc.perform(put("/employee/1")
+                .header("If-Match", "\"1-2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(PROBLEM_JSON)
+                .content(body));
+
+        expectProblemBasics("/employee/1", 412, "Precondition Failed", ra);
+        ra.andExpect(jsonPath("$.errors[0].field").value("If-Match"));
+    }
+
+    @Test
+    void put_withStaleIfMatchVersion_shouldReturn412ProblemDetail() throws Exception {
+        String body = """
+                {
+                  "firstName": "Jan",
+                  "lastName": "Kowalski",
+                  "email": "jan@x.pl"
+                }
+                """;
+
+        when(employeeService.update(anyLong(), any(EmployeePutDto.class)))
+                .thenThrow(new VersionMismatchException(2L, 3L));
+
+        var ra = mockMvc.perform(put("/employee/1")
+                .header("If-Match", "\"1-2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(PROBLEM_JSON)
+                .content(body));
+
+        expectProblemBasics("/employee/1", 412, "Precondition Failed", ra);
+        ra.andExpect(jsonPath("$.errors[0].field").value("If-Match"));
+    }
+
+    @Test
+    void put_withStaleBodyVersionAndIfMatchAny_shouldReturn409ProblemDetail() throws Exception {
+        String body = """
+                {
+                  "firstName": "Jan",
+                  "lastName": "Kowalski",
+                  "email": "jan@x.pl",
+                  "version": 2
+                }
+                """;
+
+        when(employeeService.update(anyLong(), any(EmployeePutDto.class)))
+                .thenThrow(new VersionMismatchException(2L, 3L));
+
+        var ra = mockMvc.perform(put("/employee/1")
+                .header("If-Match", "*")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(PROBLEM_JSON)
+                .content(body));
+
+        expectProblemBasics("/employee/1", 409, "Version conflict", ra);
+        ra.andExpect(jsonPath("$.errors[0].field").value("version"));
+    }
 }
@@ -0,0 +1,73 @@
+package io.github.zlemiesz.springemployeeservice.mapper;
+
+import io.github.zlemiesz.springemployeeservice.dto.EmployeeCreateDto;
+import io.github.zlemiesz.springemployeeservice.dto.EmployeePatchDto;
+import io.github.zlemiesz.springemployeeservice.dto.EmployeePutDto;
+import io.github.zlemiesz.springemployeeservice.dto.EmployeeResponseDto;
+import io.github.zlemiesz.springemployeeservice.model.Employee;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+/**
+ * @author Zbigniew Lemiesz
+ */
+public class EmployeeMapperTest {
+
+    private final EmployeeMapper mapper = new EmployeeMapper();
+
+    @Test
+    void shouldMapEntityToResponse() {
+        Employee employee = new Employee(7L, 2L, "jan@x.pl", "Kowalski", "Jan");
+
+        EmployeeResponseDto dto = mapper.toResponse(employee);
+
+        assertThat(dto.getId()).isEqualTo(7L);
+        assertThat(dto.getFirstName()).isEqualTo("Jan");
+        assertThat(dto.getLastName()).isEqualTo("Kowalski");
+        assertThat(dto.getEmail()).isEqualTo("jan@x.pl");
+        assertThat(dto.getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldMapCreateDtoWithoutIdAndVersion() {
+        EmployeeCreateDto dto = new EmployeeCreateDto();
+        dto.setFirstName("Jan");
+        dto.setLastName("Kowalski");
+        dto.setEmail("jan@x.pl");
+
+        Employee employee = mapper.toEntity(dto);
+
+        assertThat(employee.getId()).isNull();
+        assertThat(employee.getVersion()).isNull();
+        assertThat(employee.getEmail()).isEqualTo("jan@x.pl");
+    }
+
+    @Test
+    void shouldSkipNullsOnPut() {
+        Employee employee = new Employee(7L, 2L, "jan@x.pl", "Kowalski", "Jan");
+        EmployeePutDto dto = new EmployeePutDto();
+        dto.setFirstName("Janusz");
+        dto.setVersion(2L);
+
+        mapper.updateEntity(dto, employee);
+
+        assertThat(employee.getFirstName()).isEqualTo("Janusz");
+        assertThat(employee.getLastName()).isEqualTo("Kowalski");
+        assertThat(employee.getEmail()).isEqualTo("jan@x.pl");
+    }
+
+    @Test
+    void shouldPatchOnlyPresentFieldsTrimmedAndKeepVersion() {
+        Employee employee = new Employee(7L, 2L, "jan@x.pl", "Kowalski", "Jan");
+        EmployeePatchDto dto = new EmployeePatchDto();
+        dto.setLastName("  Nowak ");
+        dto.setVersion(99L);
+
+        mapper.patchEntity(dto, employee);
+
+        assertThat(employee.getLastName()).isEqualTo("Nowak");
+        assertThat(employee.getFirstName()).isEqualTo("Jan");
+        assertThat(employee.getVersion()).isEqualTo(2L);
+    }
+}
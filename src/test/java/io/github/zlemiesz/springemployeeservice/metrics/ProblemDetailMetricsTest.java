@@ -0,0 +1,54 @@
+package io.github.zlemiesz.springemployeeservice.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Zbigniew Lemiesz
+ */
+public class ProblemDetailMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldCountProblemsByStatusAndTitle() {
+        ProblemDetailMetrics metrics = metrics(true);
+
+        Object body = problem(HttpStatus.NOT_FOUND, "Employee not found");
+        assertThat(metrics.beforeBodyWrite(body, null, null, null, null, null)).isSameAs(body);
+        metrics.record(problem(HttpStatus.NOT_FOUND, "Employee not found"));
+        metrics.record(problem(HttpStatus.CONFLICT, "Conflict"));
+
+        assertThat(registry.get("http.server.problems").tags("status", "404", "title", "Employee not found")
+                .counter().count()).isEqualTo(2);
+        assertThat(registry.get("http.server.problems").tags("status", "409").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDoNothingWhenDisabled() {
+        ProblemDetailMetrics metrics = metrics(false);
+
+        metrics.record(problem(HttpStatus.NOT_FOUND, "Employee not found"));
+
+        assertThat(metrics.supports(null, null)).isFalse();
+        assertThat(registry.find("http.server.problems").counters()).isEmpty();
+    }
+
+    private ProblemDetailMetrics metrics(boolean enabled) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", registry);
+        return new ProblemDetailMetrics(beanFactory.getBeanProvider(MeterRegistry.class), enabled);
+    }
+
+    private static ProblemDetail problem(HttpStatus status, String title) {
+        ProblemDetail pd = ProblemDetail.forStatus(status);
+        pd.setTitle(title);
+        return pd;
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.zlemiesz.springemployeeservice.metrics;
+
+import io.github.zlemiesz.springemployeeservice.support.QueryStatsAssertions;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Zbigniew Lemiesz
+ */
+public class RequestQueryCounterTest {
+
+    private final QueryStatsSessionListener listener = new QueryStatsSessionListener();
+
+    @Test
+    void shouldCountOnlyWhileStarted() {
+        executeStatement();
+
+        RequestQueryCounter.start();
+        executeStatement();
+        listener.jdbcExecuteBatchStart();
+        listener.jdbcExecuteBatchEnd();
+        new EntityLoadCountingInterceptor().onLoad(new Object(), 1L, null, null, null);
+
+        QueryStats stats = RequestQueryCounter.stop();
+        assertThat(stats.statements()).isEqualTo(2);
+        assertThat(stats.entities()).isEqualTo(1);
+        assertThat(RequestQueryCounter.stop()).isEqualTo(QueryStats.NONE);
+    }
+
+    @Test
+    void shouldKeepOuterTallyAcrossNestedRequest() throws Exception {
+        QueryStats stats = QueryStatsAssertions.capture(() -> {
+            // what RequestMetricsFilter does around a MockMvc request
+            RequestQueryCounter.start();
+            executeStatement();
+            RequestQueryCounter.stop();
+            executeStatement();
+        });
+
+        assertThat(stats.statements()).isEqualTo(2);
+        assertThat(RequestQueryCounter.current()).isEqualTo(QueryStats.NONE);
+    }
+
+    @Test
+    void shouldFailWhenBudgetExceeded() {
+        assertThatThrownBy(() -> QueryStatsAssertions.assertStatementsAtMost(1, () -> {
+            executeStatement();
+            executeStatement();
+        })).isInstanceOf(AssertionError.class).hasMessageContaining("SQL statements executed");
+    }
+
+    private void executeStatement() {
+        listener.jdbcExecuteStatementStart();
+        listener.jdbcExecuteStatementEnd();
+    }
+}
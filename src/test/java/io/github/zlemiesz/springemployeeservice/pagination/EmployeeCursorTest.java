@@ -0,0 +1,51 @@
+package io.github.zlemiesz.springemployeeservice.pagination;
+
+import io.github.zlemiesz.springemployeeservice.dto.EmployeeResponseDto;
+import io.github.zlemiesz.springemployeeservice.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+/**
+ * @author Zbigniew Lemiesz
+ */
+public class EmployeeCursorTest {
+
+    @Test
+    void shouldRoundTripCursorWithSeparatorInValue() {
+        EmployeeKeyset keyset = EmployeeKeyset.from(Sort.by(Sort.Direction.DESC, "lastName"));
+        EmployeeResponseDto last = new EmployeeResponseDto();
+        last.setId(42L);
+        last.setLastName("Nowak|Kowalska");
+
+        EmployeeCursor decoded = EmployeeCursor.decode(EmployeeCursor.after(last, keyset).encode());
+
+        assertThat(decoded.keyset()).isEqualTo(keyset);
+        assertThat(decoded.id()).isEqualTo(42L);
+        assertThat(decoded.value()).isEqualTo("Nowak|Kowalska");
+    }
+
+    @Test
+    void shouldDefaultToIdAscending() {
+        EmployeeKeyset keyset = EmployeeKeyset.from(Sort.unsorted());
+
+        assertThat(keyset.sortKey()).isEqualTo(EmployeeSortKey.ID);
+        assertThat(keyset.direction()).isEqualTo(Sort.Direction.ASC);
+        assertThat(keyset.sort()).isEqualTo(Sort.by(Sort.Direction.ASC, "id"));
+    }
+
+    @Test
+    void shouldRejectTamperedCursor() {
+        assertThatThrownBy(() -> EmployeeCursor.decode("not-a-cursor"))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void shouldRejectUnsupportedSortProperty() {
+        assertThatThrownBy(() -> EmployeeKeyset.from(Sort.by("version")))
+                .isInstanceOf(InvalidCursorException.class)
+                .hasMessageContaining("version");
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.zlemiesz.springemployeeservice.repository;
+
+import io.github.zlemiesz.springemployeeservice.model.Employee;
+import io.github.zlemiesz.springemployeeservice.model.Role;
+import io.github.zlemiesz.springemployeeservice.model.UserAccount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+
+import java.util.Set;
+
+import static io.github.zlemiesz.springemployeeservice.support.QueryStatsAssertions.assertStatementsAtMost;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query budget of the login lookup against a real Hibernate session (H2 in place of MySQL, schema from
+ * the entities). Everything {@code DbUserDetailsService} reads, employee and roles included, must come
+ * from the single entity-graph query.
+ *
+ * @author Zbigniew Lemiesz
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class UserAccountRepositoryQueryBudgetTest {
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @Autowired
+    UserAccountRepository userAccountRepository;
+
+    @BeforeEach
+    void setUp() {
+        Role user = new Role();
+        user.setName("ROLE_USER");
+        Role admin = new Role();
+        admin.setName("ROLE_ADMIN");
+        entityManager.persist(user);
+        entityManager.persist(admin);
+
+        Employee employee = entityManager.persist(new Employee("Jan", "Kowalski", "jan@x.pl"));
+
+        UserAccount account = new UserAccount();
+        account.setEmployee(employee);
+        account.setPasswordHash("{noop}secret");
+        account.setRoles(Set.of(user, admin));
+        entityManager.persist(account);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findForLoginByEmail_shouldLoadAccountEmployeeAndRolesInOneStatement() throws Exception {
+        assertStatementsAtMost(1, () -> {
+            UserAccount account = userAccountRepository.findForLoginByEmail("jan@x.pl").orElseThrow();
+
+            assertThat(account.getEmployee().getEmail()).isEqualTo("jan@x.pl");
+            assertThat(account.getRoles()).extracting(Role::getName)
+                    .containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN");
+        });
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.zlemiesz.springemployeeservice.search;
+
+import io.github.zlemiesz.springemployeeservice.dto.EmployeeResponseDto;
+import io.github.zlemiesz.springemployeeservice.dto.EmployeeSuggestionDto;
+import io.github.zlemiesz.springemployeeservice.event.EmployeeChangedEvent;
+import io.github.zlemiesz.springemployeeservice.model.Employee;
+import io.github.zlemiesz.springemployeeservice.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Zbigniew Lemiesz
+ */
+public class EmployeeSuggestIndexTest {
+
+    private EmployeeSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new EmployeeSuggestIndex(mock(EmployeeRepository.class));
+        index.upsert(new EmployeeSuggestionDto(1L, "Jan", "Kowalski", "jan.kowalski@x.pl"), 1L);
+        index.upsert(new EmployeeSuggestionDto(2L, "Anna", "Kowalska", "anna@x.pl"), 1L);
+        index.upsert(new EmployeeSuggestionDto(3L, "Piotr", "Nowak", "piotr.nowak@x.pl"), 1L);
+    }
+
+    @Test
+    void shouldMatchPrefixOfAnyTermCaseInsensitive() {
+        assertThat(ids(index.suggest("KOW", 10))).containsExactly(2L, 1L);
+        assertThat(ids(index.suggest("k", 10))).containsExactly(2L, 1L);
+        assertThat(ids(index.suggest("piotr.n", 10))).containsExactly(3L);
+        assertThat(ids(index.suggest("jan kow", 10))).containsExactly(1L);
+    }
+
+    @Test
+    void shouldNotMatchInfix() {
+        assertThat(index.suggest("owal", 10)).isEmpty();
+    }
+
+    @Test
+    void shouldReflectUpdatesAndRemovals() {
+        index.upsert(new EmployeeSuggestionDto(1L, "Jan", "Zielinski", "jan.zielinski@x.pl"), 2L);
+        index.remove(2L);
+
+        assertThat(index.suggest("kow", 10)).isEmpty();
+        assertThat(ids(index.suggest("ziel", 10))).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldHonourLimitAfterSortingByName() {
+        // Kowalski has the lower id, but Kowalska comes first alphabetically
+        assertThat(ids(index.suggest("kowalsk", 1))).containsExactly(2L);
+    }
+
+    @Test
+    void shouldIgnoreOlderVersion() {
+        index.upsert(new EmployeeSuggestionDto(1L, "Jan", "Zielinski", "jan.zielinski@x.pl"), 3L);
+        index.upsert(new EmployeeSuggestionDto(1L, "Jan", "Kowalski", "jan.kowalski@x.pl"), 2L);
+
+        assertThat(ids(index.suggest("ziel", 10))).containsExactly(1L);
+        assertThat(ids(index.suggest("kow", 10))).containsExactly(2L);
+    }
+
+    @Test
+    void buildShouldNotUndoChangesAppliedWhileItRuns() {
+        EmployeeRepository repository = mock(EmployeeRepository.class);
+        EmployeeSuggestIndex building = new EmployeeSuggestIndex(repository);
+
+        // the batch was read before these commits, their events arrive before the batch is indexed
+        when(repository.findBy(any(Specification.class), any())).thenAnswer(invocation -> {
+            building.onEmployeeChanged(EmployeeChangedEvent.saved(
+                    new EmployeeResponseDto(1L, "Jan", "Zielinski", "jan.zielinski@x.pl", 2L)));
+            building.onEmployeeChanged(EmployeeChangedEvent.deleted(2L, "anna@x.pl"));
+            return List.of(
+                    new Employee(1L, 1L, "jan.kowalski@x.pl", "Kowalski", "Jan"),
+                    new Employee(2L, 1L, "anna@x.pl", "Kowalska", "Anna"));
+        });
+
+        building.build();
+
+        assertThat(building.suggest("kow", 10)).isEmpty();
+        assertThat(ids(building.suggest("ziel", 10))).containsExactly(1L);
+        assertThat(building.size()).isEqualTo(1);
+    }
+
+    private static List<Long> ids(List<EmployeeSuggestionDto> suggestions) {
+        return suggestions.stream().map(EmployeeSuggestionDto::id).toList();
+    }
+}
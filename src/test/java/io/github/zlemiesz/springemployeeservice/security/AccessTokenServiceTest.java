@@ -0,0 +1,82 @@
+package io.github.zlemiesz.springemployeeservice.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Zbigniew Lemiesz
+ */
+public class AccessTokenServiceTest {
+
+    private static final byte[] KEY = "0123456789abcdef0123456789abcdef".getBytes();
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+    private final AccessTokenService service = at(NOW);
+
+    @Test
+    void shouldRoundTripPrincipal() {
+        String token = service.issue(principal());
+
+        UserPrincipal verified = service.verify(token);
+
+        assertThat(verified).isNotNull();
+        assertThat(verified.getUserAccountId()).isEqualTo(7L);
+        assertThat(verified.getEmail()).isEqualTo("jan|kowalski@x.pl");
+        assertThat(verified.getPassword()).isNull();
+        assertThat(verified.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_HR", "ROLE_VIEWER");
+    }
+
+    @Test
+    void shouldRejectTamperedOrForeignToken() {
+        String token = service.issue(principal());
+        char[] chars = token.toCharArray();
+        chars[3] = chars[3] == 'A' ? 'B' : 'A';
+
+        assertThat(service.verify(new String(chars))).isNull();
+        assertThat(service.verify("not-a-token")).isNull();
+
+        byte[] otherKey = Arrays.copyOf(KEY, KEY.length);
+        otherKey[0] = 'X';
+        AccessTokenService other = new AccessTokenService(otherKey, Duration.ofMinutes(15), fixed(NOW));
+        assertThat(other.verify(token)).isNull();
+    }
+
+    @Test
+    void shouldRejectExpiredToken() {
+        String token = service.issue(principal());
+
+        assertThat(at(NOW.plus(Duration.ofMinutes(14))).verify(token)).isNotNull();
+        assertThat(at(NOW.plus(Duration.ofMinutes(15))).verify(token)).isNull();
+    }
+
+    @Test
+    void shouldRequireLongEnoughKey() {
+        assertThatThrownBy(() -> new AccessTokenService(new byte[16], Duration.ofMinutes(15), fixed(NOW)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static AccessTokenService at(Instant instant) {
+        return new AccessTokenService(KEY, Duration.ofMinutes(15), fixed(instant));
+    }
+
+    private static Clock fixed(Instant instant) {
+        return Clock.fixed(instant, ZoneOffset.UTC);
+    }
+
+    private static UserPrincipal principal() {
+        return new UserPrincipal(7L, "jan|kowalski@x.pl", "{bcrypt}hash", true,
+                List.of(new SimpleGrantedAuthority("ROLE_HR"), new SimpleGrantedAuthority("ROLE_VIEWER")));
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.zlemiesz.springemployeeservice.security;
+
+import io.github.zlemiesz.springemployeeservice.config.SecurityConfig;
+import io.github.zlemiesz.springemployeeservice.controller.EmployeeController;
+import io.github.zlemiesz.springemployeeservice.metrics.ProblemDetailMetrics;
+import io.github.zlemiesz.springemployeeservice.service.DbUserDetailsService;
+import io.github.zlemiesz.springemployeeservice.service.EmployeeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.security.autoconfigure.SecurityAutoConfiguration;
+import org.springframework.boot.security.autoconfigure.web.servlet.SecurityFilterAutoConfiguration;
+import org.springframework.boot.security.autoconfigure.web.servlet.ServletWebSecurityAutoConfiguration;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Actuator rules of {@link SecurityConfig} on the application port, with the real filter chain.
+ *
+ * @author Zbigniew Lemiesz
+ */
+@WebMvcTest(controllers = EmployeeController.class, properties = "management.server.port=8081")
+@Import({SecurityConfig.class, RestAuthenticationEntryPoint.class, RestAccessDeniedHandler.class,
+        PrincipalCache.class, ProblemDetailMetrics.class})
+@ImportAutoConfiguration({SecurityAutoConfiguration.class, ServletWebSecurityAutoConfiguration.class,
+        SecurityFilterAutoConfiguration.class})
+class ActuatorSecurityMvcTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockitoBean
+    EmployeeService employeeService;
+
+    @MockitoBean
+    DbUserDetailsService userDetailsService;
+
+    @Test
+    void prometheus_onApplicationPort_shouldRequireAuthentication() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void prometheus_onManagementPort_shouldBePermitted() throws Exception {
+        // permitted by security; the slice has no actuator endpoints, so the request ends in 404
+        mockMvc.perform(get("/actuator/prometheus").with(request -> {
+                    request.setLocalPort(8081);
+                    return request;
+                }))
+                .andExpect(status().isNotFound());
+    }
+}
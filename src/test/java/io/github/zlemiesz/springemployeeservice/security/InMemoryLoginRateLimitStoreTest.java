@@ -0,0 +1,54 @@
+package io.github.zlemiesz.springemployeeservice.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Zbigniew Lemiesz
+ */
+public class InMemoryLoginRateLimitStoreTest {
+
+    private static final LoginRateLimit THREE_PER_MINUTE = new LoginRateLimit(3, Duration.ofMinutes(1));
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void shouldAllowBurstThenThrottleUntilRefill() {
+        InMemoryLoginRateLimitStore store = new InMemoryLoginRateLimitStore(4, 100, now::get);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(store.tryConsume("email:a@x.pl", THREE_PER_MINUTE)).isZero();
+        }
+        assertThat(store.tryConsume("email:a@x.pl", THREE_PER_MINUTE)).isEqualTo(Duration.ofSeconds(20));
+        assertThat(store.tryConsume("email:b@x.pl", THREE_PER_MINUTE)).isZero();
+
+        advance(Duration.ofSeconds(20));
+        assertThat(store.tryConsume("email:a@x.pl", THREE_PER_MINUTE)).isZero();
+        assertThat(store.tryConsume("email:a@x.pl", THREE_PER_MINUTE)).isPositive();
+
+        store.reset("email:a@x.pl");
+        assertThat(store.tryConsume("email:a@x.pl", THREE_PER_MINUTE)).isZero();
+    }
+
+    @Test
+    void shouldBoundMemoryAndEvictRefilledBuckets() {
+        InMemoryLoginRateLimitStore store = new InMemoryLoginRateLimitStore(1, 10, now::get);
+
+        for (int i = 0; i < 50; i++) {
+            store.tryConsume("ip:10.0.0." + i, THREE_PER_MINUTE);
+        }
+        assertThat(store.size()).isEqualTo(10);
+
+        advance(Duration.ofMinutes(1));
+        store.tryConsume("ip:10.0.1.1", THREE_PER_MINUTE);
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.zlemiesz.springemployeeservice.security;
+
+import io.github.zlemiesz.springemployeeservice.config.SecurityConfig;
+import io.github.zlemiesz.springemployeeservice.controller.EmployeeController;
+import io.github.zlemiesz.springemployeeservice.metrics.ProblemDetailMetrics;
+import io.github.zlemiesz.springemployeeservice.service.DbUserDetailsService;
+import io.github.zlemiesz.springemployeeservice.service.EmployeeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.security.autoconfigure.SecurityAutoConfiguration;
+import org.springframework.boot.security.autoconfigure.web.servlet.SecurityFilterAutoConfiguration;
+import org.springframework.boot.security.autoconfigure.web.servlet.ServletWebSecurityAutoConfiguration;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * {@code POST /login} through the real filter chain with a two-attempt email bucket.
+ * Each test uses its own email, the limiter is shared by the cached context.
+ *
+ * @author Zbigniew Lemiesz
+ */
+@WebMvcTest(controllers = EmployeeController.class, properties = {
+        "security.login.rate-limit.email.capacity=2",
+        "security.login.rate-limit.email.window=10m",
+        "security.password.bcrypt-strength=4"
+})
+@Import({SecurityConfig.class, RestAuthenticationEntryPoint.class, RestAccessDeniedHandler.class,
+        PrincipalCache.class, ProblemDetailMetrics.class, LoginRateLimitMvcTest.Registry.class})
+@ImportAutoConfiguration({SecurityAutoConfiguration.class, ServletWebSecurityAutoConfiguration.class,
+        SecurityFilterAutoConfiguration.class})
+class LoginRateLimitMvcTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    PasswordEncoder passwordEncoder;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @MockitoBean
+    EmployeeService employeeService;
+
+    @MockitoBean
+    DbUserDetailsService userDetailsService;
+
+    @TestConfiguration
+    static class Registry {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Test
+    void login_overEmailLimit_shouldReturn429WithRetryAfter() throws Exception {
+        when(userDetailsService.loadUserByUsername(anyString())).thenThrow(new UsernameNotFoundException("none"));
+
+        login("ghost@x.pl", "wrong").andExpect(status().isUnauthorized());
+        login("ghost@x.pl", "wrong").andExpect(status().isUnauthorized());
+
+        login("ghost@x.pl", "wrong")
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "300"))
+                .andExpect(content().contentTypeCompatibleWith("application/problem+json"))
+                .andExpect(jsonPath("$.status").value(429))
+                .andExpect(jsonPath("$.instance").value("/login"))
+                .andExpect(jsonPath("$.errors[0].field").value("login"));
+
+        assertThat(meterRegistry.get("http.server.problems").tag("status", "429").counter().count())
+                .isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void login_success_shouldResetEmailBucket() throws Exception {
+        when(userDetailsService.loadUserByUsername("jan@x.pl")).thenReturn(new UserPrincipal(
+                1L, "jan@x.pl", passwordEncoder.encode("secret"), true,
+                List.of(new SimpleGrantedAuthority("ROLE_VIEWER"))));
+
+        login("jan@x.pl", "wrong").andExpect(status().isUnauthorized());
+        login("jan@x.pl", "secret").andExpect(status().isNoContent());
+
+        // without the reset the second of these would be the third attempt in the window
+        login("jan@x.pl", "wrong").andExpect(status().isUnauthorized());
+        login("jan@x.pl", "wrong").andExpect(status().isUnauthorized());
+    }
+
+    private ResultActions login(String email, String password) throws Exception {
+        return mockMvc.perform(post("/login")
+                .param("email", email)
+                .param("password", password));
+    }
+}
@@ -0,0 +1,46 @@
+package io.github.zlemiesz.springemployeeservice.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Zbigniew Lemiesz
+ */
+public class PasswordEncodersTest {
+
+    @Test
+    void shouldMatchLegacyUnprefixedBcryptAndRequestUpgrade() {
+        String legacy = new BCryptPasswordEncoder(4).encode("secret");
+        PasswordEncoder encoder = PasswordEncoders.delegating(PasswordEncoders.BCRYPT, 4, 1024, 1, 1);
+
+        assertThat(encoder.matches("secret", legacy)).isTrue();
+        assertThat(encoder.upgradeEncoding(legacy)).isTrue();
+    }
+
+    @Test
+    void shouldUpgradeWhenAlgorithmOrCostChanges() {
+        PasswordEncoder bcrypt4 = PasswordEncoders.delegating(PasswordEncoders.BCRYPT, 4, 1024, 1, 1);
+        PasswordEncoder bcrypt5 = PasswordEncoders.delegating(PasswordEncoders.BCRYPT, 5, 1024, 1, 1);
+        PasswordEncoder argon2 = PasswordEncoders.delegating(PasswordEncoders.ARGON2, 4, 1024, 1, 1);
+
+        String hash = bcrypt4.encode("secret");
+        assertThat(hash).startsWith("{bcrypt}");
+        assertThat(bcrypt4.upgradeEncoding(hash)).isFalse();
+        assertThat(bcrypt5.upgradeEncoding(hash)).isTrue();
+        assertThat(argon2.upgradeEncoding(hash)).isTrue();
+
+        String rehashed = argon2.encode("secret");
+        assertThat(rehashed).startsWith("{argon2}");
+        assertThat(bcrypt4.matches("secret", rehashed)).isTrue();
+    }
+
+    @Test
+    void shouldRejectUnknownAlgorithm() {
+        assertThatThrownBy(() -> PasswordEncoders.delegating("md5", 4, 1024, 1, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.zlemiesz.springemployeeservice.security;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.zlemiesz.springemployeeservice.config.CacheConfig;
+import io.github.zlemiesz.springemployeeservice.dto.EmployeeResponseDto;
+import io.github.zlemiesz.springemployeeservice.event.EmployeeChangedEvent;
+import io.github.zlemiesz.springemployeeservice.event.UserAccountChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Zbigniew Lemiesz
+ */
+public class PrincipalCacheTest {
+
+    private PrincipalCache cache;
+
+    @BeforeEach
+    void setUp() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(CacheConfig.PRINCIPALS, Caffeine.newBuilder().build());
+
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("cacheManager", cacheManager);
+        cache = new PrincipalCache(beanFactory.getBeanProvider(CacheManager.class));
+
+        cache.putUserInCache(principal(1L, "jan@x.pl"));
+        cache.putUserInCache(principal(2L, "anna@x.pl"));
+    }
+
+    @Test
+    void shouldLookUpByNormalizedEmail() {
+        assertThat(cache.getUserFromCache(" JAN@x.pl ")).isNotNull();
+    }
+
+    @Test
+    void shouldEvictOnlyTheChangedAccount() {
+        cache.onUserAccountChanged(new UserAccountChangedEvent(1L));
+
+        assertThat(cache.getUserFromCache("jan@x.pl")).isNull();
+        assertThat(cache.getUserFromCache("anna@x.pl")).isNotNull();
+    }
+
+    @Test
+    void shouldEvictOldEmailWhenEmployeeEmailChanges() {
+        EmployeeResponseDto changed = new EmployeeResponseDto(10L, "Jan", "Kowalski", "janek@x.pl", 2L);
+
+        cache.onEmployeeChanged(EmployeeChangedEvent.saved(changed, "jan@x.pl"));
+
+        assertThat(cache.getUserFromCache("jan@x.pl")).isNull();
+    }
+
+    private static UserPrincipal principal(Long id, String email) {
+        return new UserPrincipal(id, email, "{noop}secret", true, List.of(new SimpleGrantedAuthority("ROLE_VIEWER")));
+    }
+}
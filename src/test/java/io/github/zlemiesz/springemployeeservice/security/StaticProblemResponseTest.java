@@ -0,0 +1,44 @@
+package io.github.zlemiesz.springemployeeservice.security;
+
+import io.github.zlemiesz.springemployeeservice.handler.error.ValidationError;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Zbigniew Lemiesz
+ */
+public class StaticProblemResponseTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Test
+    void shouldWriteSameJsonAsSerializingTheProblem() throws Exception {
+        StaticProblemResponse unauthorized = new StaticProblemResponse(jsonMapper, HttpStatus.UNAUTHORIZED,
+                "Unauthorized", "Authentication is required", "auth", "Missing or invalid credentials/session");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        unauthorized.write(new MockHttpServletRequest("GET", "/employee/42"), response);
+
+        ProblemDetail expected = ProblemDetail.forStatus(HttpStatus.UNAUTHORIZED);
+        expected.setType(URI.create("about:blank"));
+        expected.setTitle("Unauthorized");
+        expected.setDetail("Authentication is required");
+        expected.setInstance(URI.create("/employee/42"));
+        expected.setProperty("errors", List.of(new ValidationError("auth", "Missing or invalid credentials/session")));
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        assertThat(response.getContentAsByteArray()).isEqualTo(jsonMapper.writeValueAsBytes(expected));
+        assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+    }
+}
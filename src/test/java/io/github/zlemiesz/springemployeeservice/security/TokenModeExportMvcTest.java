@@ -0,0 +1,87 @@
+package io.github.zlemiesz.springemployeeservice.security;
+
+import io.github.zlemiesz.springemployeeservice.config.SecurityConfig;
+import io.github.zlemiesz.springemployeeservice.controller.EmployeeExportController;
+import io.github.zlemiesz.springemployeeservice.metrics.ProblemDetailMetrics;
+import io.github.zlemiesz.springemployeeservice.service.DbUserDetailsService;
+import io.github.zlemiesz.springemployeeservice.service.EmployeeExportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.security.autoconfigure.SecurityAutoConfiguration;
+import org.springframework.boot.security.autoconfigure.web.servlet.SecurityFilterAutoConfiguration;
+import org.springframework.boot.security.autoconfigure.web.servlet.ServletWebSecurityAutoConfiguration;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * {@code GET /employee/export} in token mode: the body is written during an async dispatch, which
+ * {@link AccessTokenAuthenticationFilter} does not run for, so the authentication has to survive it.
+ *
+ * @author Zbigniew Lemiesz
+ */
+@WebMvcTest(controllers = EmployeeExportController.class, properties = {
+        "security.auth.mode=token",
+        "security.token.secret=MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY="
+})
+@Import({SecurityConfig.class, AccessTokenService.class, RestAuthenticationEntryPoint.class,
+        RestAccessDeniedHandler.class, PrincipalCache.class, ProblemDetailMetrics.class})
+@ImportAutoConfiguration({SecurityAutoConfiguration.class, ServletWebSecurityAutoConfiguration.class,
+        SecurityFilterAutoConfiguration.class})
+class TokenModeExportMvcTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    AccessTokenService accessTokenService;
+
+    @MockitoBean
+    EmployeeExportService exportService;
+
+    @MockitoBean
+    DbUserDetailsService userDetailsService;
+
+    @Test
+    void export_withBearerToken_shouldStayAuthenticatedOnAsyncDispatch() throws Exception {
+        doAnswer(invocation -> {
+            invocation.getArgument(5, OutputStream.class).write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(exportService).export(any(), any(), any(), any(), any(), any());
+
+        String token = accessTokenService.issue(
+                new UserPrincipal(1L, "hr@x.pl", "", true, List.of(new SimpleGrantedAuthority("ROLE_HR"))));
+
+        MvcResult started = mockMvc.perform(get("/employee/export")
+                        .header(HttpHeaders.AUTHORIZATION, AccessTokenService.TOKEN_TYPE + " " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().string("{\"id\":1}\n"));
+    }
+
+    @Test
+    void export_withoutToken_shouldReturn401() throws Exception {
+        mockMvc.perform(get("/employee/export"))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.zlemiesz.springemployeeservice.service;
+
+import io.github.zlemiesz.springemployeeservice.dto.EmployeeCreateDto;
+import io.github.zlemiesz.springemployeeservice.dto.batch.BatchItemResult;
+import io.github.zlemiesz.springemployeeservice.dto.batch.BatchItemStatus;
+import io.github.zlemiesz.springemployeeservice.dto.batch.BatchResponse;
+import io.github.zlemiesz.springemployeeservice.dto.batch.EmployeeBatchDeleteDto;
+import io.github.zlemiesz.springemployeeservice.mapper.EmployeeMapper;
+import io.github.zlemiesz.springemployeeservice.model.Employee;
+import io.github.zlemiesz.springemployeeservice.repository.EmployeeRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Zbigniew Lemiesz
+ */
+public class EmployeeBatchServiceImpTest {
+
+    private EmployeeRepository employeeRepository;
+    private EmployeeBatchServiceImp service;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository = mock(EmployeeRepository.class);
+        service = new EmployeeBatchServiceImp(
+                employeeRepository,
+                new EmployeeMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                mock(ApplicationEventPublisher.class)
+        );
+    }
+
+    @Test
+    void shouldReportInvalidDuplicateAndTakenEmailsPerItem() {
+        EmployeeRepository.EmailOwner owner = mock(EmployeeRepository.EmailOwner.class);
+        when(owner.getId()).thenReturn(7L);
+        when(owner.getEmail()).thenReturn("taken@x.pl");
+        when(employeeRepository.findByEmailIn(anyCollection())).thenReturn(List.of(owner));
+
+        BatchResponse response = service.createAll(List.of(
+                create("Jan", "jan@x.pl"),
+                create("", "empty@x.pl"),
+                create("Janek", "JAN@x.pl"),
+                create("Ola", "taken@x.pl")
+        ));
+
+        assertThat(response.items()).extracting(BatchItemResult::status).containsExactly(
+                BatchItemStatus.CREATED,
+                BatchItemStatus.INVALID,
+                BatchItemStatus.EMAIL_CONFLICT,
+                BatchItemStatus.EMAIL_CONFLICT
+        );
+        assertThat(response.succeeded()).isEqualTo(1);
+        assertThat(response.failed()).isEqualTo(3);
+        assertThat(response.items().get(1).errors()).extracting("field").containsExactly("firstName");
+        verify(employeeRepository).saveAll(any());
+    }
+
+    @Test
+    void shouldReportMissingAndStaleEmployeesOnDelete() {
+        when(employeeRepository.findAllById(any())).thenReturn(List.of(
+                new Employee(1L, 2L, "a@x.pl", "A", "A"),
+                new Employee(2L, 5L, "b@x.pl", "B", "B")
+        ));
+
+        BatchResponse response = service.deleteAll(List.of(
+                new EmployeeBatchDeleteDto(1L, 2L),
+                new EmployeeBatchDeleteDto(2L, 4L),
+                new EmployeeBatchDeleteDto(3L, 1L),
+                new EmployeeBatchDeleteDto(1L, 2L)
+        ));
+
+        assertThat(response.items()).extracting(BatchItemResult::status).containsExactly(
+                BatchItemStatus.DELETED,
+                BatchItemStatus.VERSION_CONFLICT,
+                BatchItemStatus.NOT_FOUND,
+                BatchItemStatus.INVALID
+        );
+        assertThat(response.items().get(1).version()).isEqualTo(5L);
+    }
+
+    private static EmployeeCreateDto create(String firstName, String email) {
+        EmployeeCreateDto dto = new EmployeeCreateDto();
+        dto.setFirstName(firstName);
+        dto.setLastName("Kowalski");
+        dto.setEmail(email);
+        return dto;
+    }
+}
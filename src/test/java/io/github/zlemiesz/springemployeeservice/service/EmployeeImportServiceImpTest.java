@@ -0,0 +1,57 @@
+package io.github.zlemiesz.springemployeeservice.service;
+
+import io.github.zlemiesz.springemployeeservice.dto.transfer.ImportJobResponse;
+import io.github.zlemiesz.springemployeeservice.dto.transfer.ImportJobStatus;
+import io.github.zlemiesz.springemployeeservice.exception.ImportJobNotFoundException;
+import io.github.zlemiesz.springemployeeservice.transfer.DataFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * @author Zbigniew Lemiesz
+ */
+public class EmployeeImportServiceImpTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final List<Runnable> queued = new ArrayList<>();
+    private EmployeeImportServiceImp service;
+
+    @BeforeEach
+    void setUp() {
+        service = new EmployeeImportServiceImp(mock(EmployeeBatchService.class), queued::add,
+                JsonMapper.builder().build(), 500, 1024, Duration.ofHours(1), nanos::get);
+    }
+
+    @Test
+    void shouldExpireFinishedJobWithoutFurtherSubmits() throws Exception {
+        ImportJobResponse submitted = service.submit(DataFormat.NDJSON, new ByteArrayInputStream(new byte[0]));
+
+        // queued (and running) jobs outlive the retention
+        advance(Duration.ofHours(2));
+        assertThat(service.status(submitted.id()).status()).isEqualTo(ImportJobStatus.QUEUED);
+
+        queued.forEach(Runnable::run);
+        assertThat(service.status(submitted.id()).status()).isEqualTo(ImportJobStatus.COMPLETED);
+
+        advance(Duration.ofMinutes(59));
+        assertThat(service.status(submitted.id()).status()).isEqualTo(ImportJobStatus.COMPLETED);
+
+        advance(Duration.ofMinutes(2));
+        assertThatThrownBy(() -> service.status(submitted.id())).isInstanceOf(ImportJobNotFoundException.class);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,46 @@
+package io.github.zlemiesz.springemployeeservice.support;
+
+import io.github.zlemiesz.springemployeeservice.metrics.QueryStats;
+import io.github.zlemiesz.springemployeeservice.metrics.RequestQueryCounter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query budget assertions for tests, on top of {@link RequestQueryCounter}. MockMvc runs the request on
+ * the test thread, so wrapping {@code mockMvc.perform(...)} captures everything the request executed:
+ * <pre>{@code
+ * assertStatementsAtMost(2, () -> mockMvc.perform(get("/employee")).andExpect(status().isOk()));
+ * }</pre>
+ * Only meaningful against a real session (see {@code EmployeeQueryBudgetTest}): with a mocked service
+ * nothing is executed and every budget passes.
+ *
+ * @author Zbigniew Lemiesz
+ */
+public final class QueryStatsAssertions {
+
+    private QueryStatsAssertions() {
+    }
+
+    public static QueryStats capture(ThrowingRunnable action) throws Exception {
+        RequestQueryCounter.start();
+        try {
+            action.run();
+            return RequestQueryCounter.current();
+        } finally {
+            RequestQueryCounter.stop();
+        }
+    }
+
+    public static QueryStats assertStatementsAtMost(int max, ThrowingRunnable action) throws Exception {
+        QueryStats stats = capture(action);
+        assertThat(stats.statements())
+                .as("SQL statements executed (%s)", stats)
+                .isLessThanOrEqualTo(max);
+        return stats;
+    }
+
+    @FunctionalInterface
+    public interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.zlemiesz.springemployeeservice.transfer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Zbigniew Lemiesz
+ */
+public class CsvEmployeeRowReaderTest {
+
+    @Test
+    void shouldMapColumnsByHeaderAndKeepSourceLineNumbers() throws IOException {
+        String csv = "\uFEFFid,Email,lastName,firstName\r\n"
+                + "1,jan@x.pl,Kowalski,Jan\r\n"
+                + "\r\n"
+                + "2,\"anna@x.pl\",\"Nowak,\r\nKowalska\",\"An \"\"Ania\"\" na\"\n"
+                + "3,piotr@x.pl,Wiśniewski,Piotr";
+
+        try (CsvEmployeeRowReader reader = new CsvEmployeeRowReader(new StringReader(csv))) {
+            ImportRow first = reader.next();
+            assertThat(first.row()).isEqualTo(2);
+            assertThat(first.employee().getFirstName()).isEqualTo("Jan");
+            assertThat(first.employee().getEmail()).isEqualTo("jan@x.pl");
+
+            ImportRow second = reader.next();
+            assertThat(second.row()).isEqualTo(4);
+            assertThat(second.employee().getLastName()).isEqualTo("Nowak,\r\nKowalska");
+            assertThat(second.employee().getFirstName()).isEqualTo("An \"Ania\" na");
+
+            ImportRow third = reader.next();
+            assertThat(third.row()).isEqualTo(6);
+            assertThat(third.employee().getLastName()).isEqualTo("Wiśniewski");
+
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    void shouldRejectHeaderWithoutRequiredColumns() {
+        CsvEmployeeRowReader reader = new CsvEmployeeRowReader(new StringReader("firstName,lastName\nJan,Kowalski\n"));
+
+        assertThatThrownBy(reader::next)
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("email");
+    }
+}
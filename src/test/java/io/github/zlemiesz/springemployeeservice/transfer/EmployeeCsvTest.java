@@ -0,0 +1,33 @@
+package io.github.zlemiesz.springemployeeservice.transfer;
+
+import io.github.zlemiesz.springemployeeservice.dto.EmployeeResponseDto;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+/**
+ * @author Zbigniew Lemiesz
+ */
+public class EmployeeCsvTest {
+
+    @Test
+    void shouldWritePlainRowWithoutQuotes() throws IOException {
+        StringWriter out = new StringWriter();
+
+        EmployeeCsv.writeRow(out, new EmployeeResponseDto(1L, "Jan", "Kowalski", "jan@x.pl", 0L));
+
+        assertThat(out.toString()).isEqualTo("1,Jan,Kowalski,jan@x.pl,0\r\n");
+    }
+
+    @Test
+    void shouldQuoteFieldsWithSeparatorsAndDoubleQuotes() throws IOException {
+        StringWriter out = new StringWriter();
+
+        EmployeeCsv.writeRow(out, new EmployeeResponseDto(2L, "Jan \"Johnny\"", "Kowalski, Jr.", "jan@x.pl", 3L));
+
+        assertThat(out.toString()).isEqualTo("2,\"Jan \"\"Johnny\"\"\",\"Kowalski, Jr.\",jan@x.pl,3\r\n");
+    }
+}